@@ -9,36 +9,60 @@ import { FaSearch, FaEye } from "react-icons/fa";
 import { MdErrorOutline } from "react-icons/md";
 import { companyService } from "../services/companyService";
 
+const emptyFilters = {
+  companyName: "",
+  industry: "",
+  foundedAfter: "",
+  profileCreateAfter: ""
+};
+
+// Largest page the backend serves (app.pagination.max-page-size), used when exporting every match
+const EXPORT_PAGE_SIZE = 100;
+
+// Maps the form fields onto the /employer/all query parameters
+const toQuery = (filters) => ({
+  companyName: filters.companyName.trim(),
+  industry: filters.industry.trim(),
+  foundedAfter: filters.foundedAfter.trim(),
+  createdAfter: filters.profileCreateAfter
+});
+
 const CompanySection = () => {
   const [companies, setCompanies] = useState([]);
-  const [filteredCompanies, setFilteredCompanies] = useState([]);
   const [loading, setLoading] = useState(true);
+  const [exporting, setExporting] = useState(false);
   const [error, setError] = useState(null);
   const [currentPage, setCurrentPage] = useState(1);
   const [companiesPerPage] = useState(10);
-  const [filters, setFilters] = useState({
-    companyName: "",
-    industry: "",
-    foundedAfter: "",
-    profileCreateAfter: ""
-  });
-
-  // Fetch all companies on component mount
+  const [totalCompanies, setTotalCompanies] = useState(0);
+  const [totalPages, setTotalPages] = useState(0);
+  const [filters, setFilters] = useState(emptyFilters);
+  // Filters of the listing on screen; paging and export keep using them until the next search
+  const [activeFilters, setActiveFilters] = useState(emptyFilters);
+
+  // Fetch the first page on component mount
   useEffect(() => {
-    fetchCompanies();
+    fetchCompanies(emptyFilters, 1);
   }, []);
 
-  const fetchCompanies = async () => {
+  // Filtering and paging happen on the server, only the visible page is loaded
+  const fetchCompanies = async (currentFilters = activeFilters, pageNumber = currentPage) => {
     try {
       setLoading(true);
       setError(null);
       
-      const result = await companyService.getAllCompanies();
+      const result = await companyService.getAllCompanies({
+        ...toQuery(currentFilters),
+        page: pageNumber - 1,
+        size: companiesPerPage
+      });
       
       if (result.success) {
-        // console.log('Companies fetched:', result.data);
         setCompanies(result.data);
-        setFilteredCompanies(result.data);
+        setTotalCompanies(result.page.totalElements ?? result.data.length);
+        setTotalPages(result.page.totalPages ?? 1);
+        setCurrentPage(pageNumber);
+        setActiveFilters(currentFilters);
       } else {
         setError(result.message);
       }
@@ -58,59 +82,45 @@ const CompanySection = () => {
   };
 
   const handleSearch = () => {
-    let filtered = [...companies];
-
-    // Filter by company name
-    if (filters.companyName.trim()) {
-      filtered = filtered.filter(company =>
-        company.companyName?.toLowerCase().includes(filters.companyName.toLowerCase())
-      );
-    }
-
-    // Filter by industry
-    if (filters.industry.trim()) {
-      filtered = filtered.filter(company =>
-        company.industry?.toLowerCase().includes(filters.industry.toLowerCase())
-      );
-    }
+    fetchCompanies(filters, 1);
+  };
 
-    // Filter by founded after year
-    if (filters.foundedAfter.trim()) {
-      const year = parseInt(filters.foundedAfter);
-      if (!isNaN(year)) {
-        filtered = filtered.filter(company =>
-          company.founded && company.founded >= year
-        );
-      }
-    }
+  const handleClearFilters = () => {
+    setFilters(emptyFilters);
+    fetchCompanies(emptyFilters, 1);
+  };
 
-    // Filter by profile creation date
-    if (filters.profileCreateAfter) {
-      const filterDate = new Date(filters.profileCreateAfter);
-      filtered = filtered.filter(company => {
-        if (company.createdAt) {
-          const companyDate = new Date(company.createdAt);
-          return companyDate >= filterDate;
-        }
-        return false;
+  // Pages through every company matching the active filters, not just the one on screen
+  const fetchAllMatchingCompanies = async () => {
+    const all = [];
+    for (let page = 0; ; page++) {
+      const result = await companyService.getAllCompanies({
+        ...toQuery(activeFilters),
+        page,
+        size: EXPORT_PAGE_SIZE
       });
+      if (!result.success) {
+        throw new Error(result.message);
+      }
+      all.push(...result.data);
+      if (result.page.last || result.data.length === 0) {
+        return all;
+      }
     }
-
-    setFilteredCompanies(filtered);
-    setCurrentPage(1); // Reset to first page after search
   };
 
-  const handleClearFilters = () => {
-    setFilters({
-      companyName: "",
-      industry: "",
-      foundedAfter: "",
-      profileCreateAfter: ""
-    });
-    setFilteredCompanies(companies);
-  };
+  const exportToExcel = async () => {
+    let exportCompanies;
+    try {
+      setExporting(true);
+      exportCompanies = await fetchAllMatchingCompanies();
+    } catch (error) {
+      setError('Failed to export companies. Please try again later.');
+      return;
+    } finally {
+      setExporting(false);
+    }
 
-  const exportToExcel = () => {
     // Create CSV content
     const headers = [
       'Company Name', 'Email', 'Phone', 'Industry', 'Size', 
@@ -119,7 +129,7 @@ const CompanySection = () => {
     
     const csvContent = [
       headers.join(','),
-      ...filteredCompanies.map(company => [
+      ...exportCompanies.map(company => [
         `"${company.companyName || ''}"`,
         `"${company.email || ''}"`,
         `"${company.companyPhone || ''}"`,
@@ -156,25 +166,20 @@ const CompanySection = () => {
 
 
 
-  // Pagination logic
-  const indexOfLastCompany = currentPage * companiesPerPage;
-  const indexOfFirstCompany = indexOfLastCompany - companiesPerPage;
-  const currentCompanies = filteredCompanies.slice(indexOfFirstCompany, indexOfLastCompany);
-  const totalPages = Math.ceil(filteredCompanies.length / companiesPerPage);
-
   const handlePageChange = (pageNumber) => {
-    setCurrentPage(pageNumber);
+    fetchCompanies(activeFilters, pageNumber);
   };
 
   const handlePrevPage = () => {
-    setCurrentPage(prev => Math.max(prev - 1, 1));
+    handlePageChange(Math.max(currentPage - 1, 1));
   };
 
   const handleNextPage = () => {
-    setCurrentPage(prev => Math.min(prev + 1, totalPages));
+    handlePageChange(Math.min(currentPage + 1, totalPages));
   };
 
-  if (loading) {
+  // Full-page placeholder only for the first load; page changes keep the table and filters in place
+  if (loading && companies.length === 0) {
     return (
       <div className="min-h-screen flex justify-center items-center bg-gray-200">
         <div className="text-xl text-gray-600">Loading companies...</div>
@@ -190,7 +195,7 @@ const CompanySection = () => {
           {error}
         </div>
         <button
-          onClick={fetchCompanies}
+          onClick={() => fetchCompanies()}
           className="bg-blue-600 text-white px-6 py-2 rounded-md hover:bg-blue-700"
         >
           Try Again
@@ -203,7 +208,7 @@ const CompanySection = () => {
     <div className="min-h-screen w-screen items-center justify-center flex bg-gray-200">
       <div className="h-full pb-20 mt-[50px] flex pt-4 text-center rounded-xl flex-col items-center w-[90vw] shadow-2xl p-2 bg-white">
         <h2 className="text-4xl flex gap-2 text-center items-center font-bold text-blue-500">
-          <FaChartBar /> Company Profiles ({filteredCompanies.length})
+          <FaChartBar /> Company Profiles ({totalCompanies})
         </h2>
         <p className="mt-2 opacity-50">
           Search and export company data easily with filters below.
@@ -284,15 +289,15 @@ const CompanySection = () => {
           <button 
             onClick={exportToExcel}
             className="border text-green-800 hover:text-white hover:bg-green-800 cursor-pointer flex items-center gap-2 font-semibold p-2 rounded-md border-green-600 transition-colors"
-            disabled={filteredCompanies.length === 0}
+            disabled={totalCompanies === 0 || exporting}
           >
             <AiFillFileExcel />
-            Export CSV ({filteredCompanies.length})
+            {exporting ? 'Exporting...' : `Export CSV (${totalCompanies})`}
           </button>
         </div>
 
         <div className="mt-12 w-full overflow-x-auto">
-          {filteredCompanies.length === 0 ? (
+          {companies.length === 0 ? (
             <div className="text-center py-12 text-gray-500">
               <p className="text-xl">No companies found</p>
               <p className="mt-2">Try adjusting your search filters</p>
@@ -314,7 +319,7 @@ const CompanySection = () => {
                 </tr>
               </thead>
               <tbody>
-                {currentCompanies.map((company, index) => (
+                {companies.map((company, index) => (
                   <tr key={company.id || index} className="text-center hover:bg-gray-50">
                     <td className="border border-gray-400 p-2 font-medium">
                       <span className="font-medium">
@@ -355,7 +360,7 @@ const CompanySection = () => {
           )}
 
           {/* Pagination */}
-          {filteredCompanies.length > companiesPerPage && (
+          {totalPages > 1 && (
             <div className="mt-6 flex justify-center items-center space-x-2">
               <button
                 onClick={handlePrevPage}
@@ -403,7 +408,7 @@ const CompanySection = () => {
               </button>
               
               <span className="ml-4 text-sm text-gray-600">
-                Page {currentPage} of {totalPages} ({filteredCompanies.length} companies)
+                Page {currentPage} of {totalPages} ({totalCompanies} companies)
               </span>
             </div>
           )}
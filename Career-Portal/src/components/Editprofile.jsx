@@ -379,7 +379,7 @@ const EditProfile = () => {
             {formData.photoFilePath ? (
               <div className="flex items-center gap-4 mb-3">
                 <img
-                  src={`http://localhost:8080/uploads/${formData.photoFilePath}`}
+                  src={`http://localhost:8080/uploads/${formData.photoFilePath}?size=256`}
                   alt="Profile"
                   className="w-20 h-20 rounded-full object-cover border-2 border-blue-500"
                 />
@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from "react";
+import React, { useState, useEffect, useRef } from "react";
 import { CiLocationArrow1 } from "react-icons/ci";
 import { IoLocationOutline } from "react-icons/io5";
 import { FaMoneyCheck } from "react-icons/fa";
@@ -14,29 +14,44 @@ const Jobsection = () => {
   const { isAuthenticated, isJobSeeker } = useAuth();
   const [jobs, setJobs] = useState([]);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState("");
+  // Page metadata of the last loaded page (last, nextCursor) and the total of the first one
+  const [pageInfo, setPageInfo] = useState(null);
+  const [totalJobs, setTotalJobs] = useState(null);
+  // Filters of the listing on screen, so "Load more" continues it even if the inputs were edited since
+  const [activeFilters, setActiveFilters] = useState({});
+  const [suggestions, setSuggestions] = useState([]);
+  const suggestTimer = useRef(null);
   const [searchFilters, setSearchFilters] = useState({
     keyword: "",
     location: "",
     experienceLevel: "",
   });
 
+  const emptyFilters = { keyword: "", location: "", experienceLevel: "" };
+
   useEffect(() => {
-    fetchJobs();
+    fetchJobs(emptyFilters);
+    return () => clearTimeout(suggestTimer.current);
   }, []);
 
-  const fetchJobs = async () => {
+  // Loads the first page for the given filters and replaces the list
+  const fetchJobs = async (currentFilters = searchFilters) => {
     setLoading(true);
     const filters = {
-      keyword: searchFilters.keyword,
-      location: searchFilters.location,
-      experience: searchFilters.experienceLevel
+      keyword: currentFilters.keyword,
+      location: currentFilters.location,
+      experience: currentFilters.experienceLevel
     };
     
     const result = await jobService.getAllJobs(filters);
     
     if (result.success) {
       setJobs(result.data);
+      setPageInfo(result.page);
+      setTotalJobs(result.page.totalElements ?? null);
+      setActiveFilters(filters);
       setError("");
     } else {
       setError(result.message);
@@ -44,20 +59,51 @@ const Jobsection = () => {
     setLoading(false);
   };
 
+  // Appends the next page: by cursor when the server returned one (newest-first listing), else by page number
+  const loadMore = async () => {
+    if (!pageInfo || pageInfo.last) return;
+    setLoadingMore(true);
+    const next = pageInfo.nextCursor
+      ? { ...activeFilters, after: pageInfo.nextCursor }
+      : { ...activeFilters, page: (pageInfo.page ?? 0) + 1 };
+
+    const result = await jobService.getAllJobs(next);
+
+    if (result.success) {
+      setJobs((previous) => [...previous, ...result.data]);
+      setPageInfo(result.page);
+      setError("");
+    } else {
+      setError(result.message);
+    }
+    setLoadingMore(false);
+  };
+
   const handleSearch = () => {
+    setSuggestions([]);
     fetchJobs();
   };
 
   const handleClearSearch = () => {
-    setSearchFilters({
-      keyword: "",
-      location: "",
-      experienceLevel: "",
-    });
+    setSearchFilters(emptyFilters);
+    setSuggestions([]);
     // Fetch all jobs after clearing filters
-    setTimeout(() => {
-      fetchJobs();
-    }, 100);
+    fetchJobs(emptyFilters);
+  };
+
+  // Typeahead for the keyword box, shown through the input's datalist
+  const fetchSuggestions = (text) => {
+    clearTimeout(suggestTimer.current);
+    const prefix = text.trim();
+    if (prefix.length < 2) {
+      setSuggestions([]);
+      return;
+    }
+    suggestTimer.current = setTimeout(async () => {
+      const result = await jobService.getSuggestions(prefix, 8);
+      // The same text can be a title and a skill; list it once
+      setSuggestions(result.success ? [...new Set(result.data.map((suggestion) => suggestion.text))] : []);
+    }, 200);
   };
 
   const handleApplyClick = (jobId, jobTitle) => {
@@ -81,6 +127,9 @@ const Jobsection = () => {
       ...searchFilters,
       [e.target.name]: e.target.value,
     });
+    if (e.target.name === "keyword") {
+      fetchSuggestions(e.target.value);
+    }
   };
 
   const handleKeyPress = (e) => {
@@ -109,8 +158,15 @@ const Jobsection = () => {
               value={searchFilters.keyword}
               onChange={handleFilterChange}
               onKeyPress={handleKeyPress}
+              list="job-keyword-suggestions"
+              autoComplete="off"
               className="border border-gray-300 rounded-md px-3 py-2 focus:outline-none focus:ring-1 focus:ring-blue-500"
             />
+            <datalist id="job-keyword-suggestions">
+              {suggestions.map((text) => (
+                <option key={text} value={text} />
+              ))}
+            </datalist>
             <input
               type="text"
               name="location"
@@ -231,6 +287,24 @@ const Jobsection = () => {
             </div>
           ))}
         </div>
+
+        {/* Paging: the API returns one page at a time */}
+        {!loading && jobs.length > 0 && (
+          <div className="text-center mt-8">
+            <p className="text-sm text-gray-600 mb-3">
+              Showing {jobs.length}{totalJobs !== null ? ` of ${totalJobs}` : ""} jobs
+            </p>
+            {pageInfo && !pageInfo.last && (
+              <button
+                onClick={loadMore}
+                disabled={loadingMore}
+                className="bg-blue-600 text-white px-6 py-2 rounded-md hover:bg-blue-700 disabled:opacity-50"
+              >
+                {loadingMore ? "Loading..." : "Load more jobs"}
+              </button>
+            )}
+          </div>
+        )}
       </div>
     </div>
   );
@@ -7,21 +7,33 @@ import { MdErrorOutline } from "react-icons/md";
 import { jobSeekerService } from "../services/jobSeekerService";
 import { useAuth } from "../context/AuthContext";
 
+const emptyFilters = {
+  name: "",
+  email: "",
+  skills: "",
+  status: "",
+};
+
+// Largest page the backend serves (app.pagination.max-page-size), used when exporting filtered results
+const EXPORT_PAGE_SIZE = 100;
+
+const hasFilters = (filters) =>
+  Object.values(filters).some((value) => value.trim() !== "");
+
 const Report = () => {
   const navigate = useNavigate();
   const { isAuthenticated, isEmployer, loading: authLoading } = useAuth();
   const [candidates, setCandidates] = useState([]);
-  const [filteredCandidates, setFilteredCandidates] = useState([]);
   const [loading, setLoading] = useState(true);
+  const [exporting, setExporting] = useState(false);
   const [error, setError] = useState(null);
   const [currentPage, setCurrentPage] = useState(1);
   const [candidatesPerPage] = useState(10);
-  const [filters, setFilters] = useState({
-    name: "",
-    email: "",
-    skills: "",
-    status: "",
-  });
+  const [totalCandidates, setTotalCandidates] = useState(0);
+  const [totalPages, setTotalPages] = useState(0);
+  const [filters, setFilters] = useState(emptyFilters);
+  // Filters of the listing on screen; paging and export keep using them until the next search
+  const [activeFilters, setActiveFilters] = useState(emptyFilters);
 
   // Check authentication and role before loading data
   useEffect(() => {
@@ -55,20 +67,30 @@ const Report = () => {
     }
 
     // console.log("Report: Auth checks passed, fetching candidates");
-    fetchCandidates();
+    fetchCandidates(emptyFilters, 1);
   }, [isAuthenticated, isEmployer, navigate, authLoading]);
 
-  const fetchCandidates = async () => {
+  // Filtering and paging happen on the server, only the visible page is loaded
+  const fetchCandidates = async (
+    currentFilters = activeFilters,
+    pageNumber = currentPage
+  ) => {
     try {
       setLoading(true);
       setError(null);
 
-      const result = await jobSeekerService.getAllJobSeekers();
+      const result = await jobSeekerService.getAllJobSeekers(
+        currentFilters,
+        pageNumber - 1,
+        candidatesPerPage
+      );
 
       if (result.success) {
-        // console.log("Candidates fetched:", result.data);
         setCandidates(result.data);
-        setFilteredCandidates(result.data);
+        setTotalCandidates(result.page.totalElements ?? result.data.length);
+        setTotalPages(result.page.totalPages ?? 1);
+        setCurrentPage(pageNumber);
+        setActiveFilters(currentFilters);
       } else {
         setError(result.message);
       }
@@ -88,52 +110,54 @@ const Report = () => {
   };
 
   const handleSearch = () => {
-    let filtered = [...candidates];
-
-    // Filter by name
-    if (filters.name.trim()) {
-      filtered = filtered.filter((candidate) =>
-        candidate.name?.toLowerCase().includes(filters.name.toLowerCase())
-      );
-    }
+    fetchCandidates(filters, 1);
+  };
 
-    // Filter by email
-    if (filters.email.trim()) {
-      filtered = filtered.filter((candidate) =>
-        candidate.email?.toLowerCase().includes(filters.email.toLowerCase())
-      );
-    }
+  const handleClearFilters = () => {
+    setFilters(emptyFilters);
+    fetchCandidates(emptyFilters, 1);
+  };
 
-    // Filter by skills
-    if (filters.skills.trim()) {
-      filtered = filtered.filter((candidate) =>
-        candidate.skills?.toLowerCase().includes(filters.skills.toLowerCase())
-      );
+  // Every candidate matching the active filters: the streaming export when unfiltered,
+  // otherwise the filtered listing page by page
+  const fetchAllMatchingCandidates = async () => {
+    if (!hasFilters(activeFilters)) {
+      const result = await jobSeekerService.streamAllJobSeekers();
+      if (!result.success) {
+        throw new Error(result.message);
+      }
+      return result.data;
     }
 
-    // Filter by status
-    if (filters.status.trim()) {
-      filtered = filtered.filter((candidate) =>
-        candidate.status?.toLowerCase().includes(filters.status.toLowerCase())
+    const all = [];
+    for (let page = 0; ; page++) {
+      const result = await jobSeekerService.getAllJobSeekers(
+        activeFilters,
+        page,
+        EXPORT_PAGE_SIZE
       );
+      if (!result.success) {
+        throw new Error(result.message);
+      }
+      all.push(...result.data);
+      if (result.page.last || result.data.length === 0) {
+        return all;
+      }
     }
-
-    setFilteredCandidates(filtered);
-    setCurrentPage(1); // Reset to first page after search
   };
 
-  const handleClearFilters = () => {
-    setFilters({
-      name: "",
-      email: "",
-      skills: "",
-      status: "",
-    });
-    setFilteredCandidates(candidates);
-    setCurrentPage(1);
-  };
+  const exportToExcel = async () => {
+    let exportCandidates;
+    try {
+      setExporting(true);
+      exportCandidates = await fetchAllMatchingCandidates();
+    } catch (error) {
+      setError("Failed to export candidates. Please try again later.");
+      return;
+    } finally {
+      setExporting(false);
+    }
 
-  const exportToExcel = () => {
     // Create CSV content
     const headers = [
       "Name",
@@ -150,7 +174,7 @@ const Report = () => {
 
     const csvContent = [
       headers.join(","),
-      ...filteredCandidates.map((candidate) =>
+      ...exportCandidates.map((candidate) =>
         [
           `"${candidate.name || ""}"`,
           `"${candidate.email || ""}"`,
@@ -185,28 +209,20 @@ const Report = () => {
     document.body.removeChild(link);
   };
 
-  // Pagination logic
-  const indexOfLastCandidate = currentPage * candidatesPerPage;
-  const indexOfFirstCandidate = indexOfLastCandidate - candidatesPerPage;
-  const currentCandidates = filteredCandidates.slice(
-    indexOfFirstCandidate,
-    indexOfLastCandidate
-  );
-  const totalPages = Math.ceil(filteredCandidates.length / candidatesPerPage);
-
   const handlePageChange = (pageNumber) => {
-    setCurrentPage(pageNumber);
+    fetchCandidates(activeFilters, pageNumber);
   };
 
   const handlePrevPage = () => {
-    setCurrentPage((prev) => Math.max(prev - 1, 1));
+    handlePageChange(Math.max(currentPage - 1, 1));
   };
 
   const handleNextPage = () => {
-    setCurrentPage((prev) => Math.min(prev + 1, totalPages));
+    handlePageChange(Math.min(currentPage + 1, totalPages));
   };
 
-  if (authLoading || loading) {
+  // Full-page placeholder only for the first load; page changes keep the table and filters in place
+  if (authLoading || (loading && candidates.length === 0)) {
     return (
       <div className="min-h-screen flex justify-center items-center bg-gray-200">
         <div className="text-xl text-gray-600">
@@ -224,7 +240,7 @@ const Report = () => {
           {error}
         </div>
         <button
-          onClick={fetchCandidates}
+          onClick={() => fetchCandidates()}
           className="bg-blue-600 text-white px-6 py-2 rounded-md hover:bg-blue-700"
         >
           Try Again
@@ -237,7 +253,7 @@ const Report = () => {
     <div className="min-h-screen w-screen items-center justify-center flex bg-gray-200">
       <div className="h-full pb-20 mt-[50px] flex pt-4 text-center rounded-xl flex-col items-center w-[90vw] shadow-2xl p-2 bg-white">
         <h2 className="text-4xl flex gap-2 text-center items-center font-bold text-blue-500">
-          <FaUsers /> Candidate Profiles ({filteredCandidates.length})
+          <FaUsers /> Candidate Profiles ({totalCandidates})
         </h2>
         <p className="mt-2 opacity-50">
           Search and export candidate data easily with filters below.
@@ -310,15 +326,15 @@ const Report = () => {
           <button
             onClick={exportToExcel}
             className="border text-green-800 hover:text-white hover:bg-green-800 cursor-pointer flex items-center gap-2 font-semibold p-2 rounded-md border-green-600 transition-colors"
-            disabled={filteredCandidates.length === 0}
+            disabled={totalCandidates === 0 || exporting}
           >
             <AiFillFileExcel />
-            Export CSV ({filteredCandidates.length})
+            {exporting ? "Exporting..." : `Export CSV (${totalCandidates})`}
           </button>
         </div>
 
         <div className="mt-12 w-full overflow-x-auto">
-          {filteredCandidates.length === 0 ? (
+          {candidates.length === 0 ? (
             <div className="text-center py-12 text-gray-500">
               <p className="text-xl">No candidates found</p>
               <p className="mt-2">Try adjusting your search filters</p>
@@ -354,7 +370,7 @@ const Report = () => {
                 </tr>
               </thead>
               <tbody>
-                {currentCandidates.map((candidate, index) => (
+                {candidates.map((candidate, index) => (
                   <tr
                     key={candidate.id || index}
                     className="text-center hover:bg-gray-50"
@@ -406,7 +422,7 @@ const Report = () => {
           )}
 
           {/* Pagination */}
-          {filteredCandidates.length > candidatesPerPage && (
+          {totalPages > 1 && (
             <div className="mt-6 flex justify-center items-center space-x-2">
               <button
                 onClick={handlePrevPage}
@@ -454,7 +470,7 @@ const Report = () => {
               </button>
 
               <span className="ml-4 text-sm text-gray-600">
-                Page {currentPage} of {totalPages} ({filteredCandidates.length}{" "}
+                Page {currentPage} of {totalPages} ({totalCandidates}{" "}
                 candidates)
               </span>
             </div>
@@ -15,6 +15,15 @@ export const companyService = {
       if (filters.foundedAfter) {
         params.append('foundedAfter', filters.foundedAfter);
       }
+      if (filters.createdAfter) {
+        params.append('createdAfter', filters.createdAfter);
+      }
+      if (filters.page !== undefined) {
+        params.append('page', filters.page);
+      }
+      if (filters.size) {
+        params.append('size', filters.size);
+      }
       
       const queryString = params.toString();
       const url = queryString ? `/employer/all?${queryString}` : '/employer/all';
@@ -22,9 +31,11 @@ export const companyService = {
       // console.log('Fetching companies from:', url);
       const response = await API.get(url);
       
+      // The endpoint is paginated: content holds the companies, the rest is page metadata
       return {
         success: true,
-        data: response.data
+        data: response.data.content,
+        page: response.data
       };
     } catch (error) {
       // console.error('Error fetching companies:', error);
@@ -70,7 +81,8 @@ export const companyService = {
       
       return {
         success: true,
-        data: response.data
+        data: response.data.content,
+        page: response.data
       };
     } catch (error) {
       // console.error('Error searching companies:', error);
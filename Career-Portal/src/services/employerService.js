@@ -23,7 +23,7 @@ export const employerService = {
       if (foundedAfter) params.append('foundedAfter', foundedAfter);
       
       const response = await API.get(`/employer/all?${params.toString()}`);
-      return { success: true, data: response.data };
+      return { success: true, data: response.data.content, page: response.data };
     } catch (error) {
       return {
         success: false,
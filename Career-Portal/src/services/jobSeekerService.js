@@ -1,4 +1,5 @@
 import axios from 'axios';
+import API from './api';
 
 const API_BASE_URL = 'http://localhost:8080/api';
 
@@ -11,16 +12,25 @@ const api = axios.create({
 });
 
 export const jobSeekerService = {
-  // Get all job seekers
-  getAllJobSeekers: async () => {
+  // Get one page of job seekers; name, email and skills match anywhere, status is FRESHER or EXPERIENCED
+  getAllJobSeekers: async (filters = {}, page = 0, size = 20) => {
     try {
       // console.log('Fetching job seekers from API');
       
-      const response = await api.get('/jobseekers/all');
+      const params = { page, size };
+      ['name', 'email', 'skills', 'status'].forEach((key) => {
+        if (filters[key] && filters[key].toString().trim()) {
+          params[key] = filters[key].toString().trim();
+        }
+      });
+
+      const response = await api.get('/jobseekers/all', { params });
       
+      // The endpoint is paginated: content holds the job seekers, the rest is page metadata
       return {
         success: true,
-        data: response.data,
+        data: response.data.content,
+        page: response.data,
         message: 'Job seekers fetched successfully'
       };
     } catch (error) {
@@ -49,5 +59,19 @@ export const jobSeekerService = {
         };
       }
     }
+  },
+
+  // Whole directory in one response (employers only, so it goes through the authenticated client)
+  streamAllJobSeekers: async () => {
+    try {
+      const response = await API.get('/jobseekers/all/stream');
+      return { success: true, data: response.data };
+    } catch (error) {
+      return {
+        success: false,
+        data: null,
+        message: error.response?.data?.message || error.message || 'Failed to export job seekers'
+      };
+    }
   }
-};
\ No newline at end of file
+};
@@ -28,6 +28,15 @@ export const jobService = {
       if (filters.experience) {
         params.append('experience', filters.experience);
       }
+      if (filters.page !== undefined) {
+        params.append('page', filters.page);
+      }
+      if (filters.size) {
+        params.append('size', filters.size);
+      }
+      if (filters.after) {
+        params.append('after', filters.after);
+      }
       
       const queryString = params.toString();
       const url = queryString ? `/jobs?${queryString}` : '/jobs';
@@ -38,7 +47,8 @@ export const jobService = {
       const response = await API.get(url);
       // console.log("API response:", response.data);
       
-      return { success: true, data: response.data };
+      // The endpoint is paginated: content holds the jobs, the rest is page metadata
+      return { success: true, data: response.data.content, page: response.data };
     } catch (error) {
       // console.error("API error:", error);
       return {
@@ -48,6 +58,20 @@ export const jobService = {
     }
   },
 
+  // Get typeahead suggestions (job titles, skills, locations) for a search prefix
+  getSuggestions: async (prefix, limit = 10) => {
+    try {
+      const params = new URLSearchParams({ prefix, limit });
+      const response = await API.get(`/jobs/suggest?${params.toString()}`);
+      return { success: true, data: response.data };
+    } catch (error) {
+      return {
+        success: false,
+        message: error.response?.data || 'Failed to fetch suggestions',
+      };
+    }
+  },
+
   // Get job posting by ID
   getJobById: async (id) => {
     try {
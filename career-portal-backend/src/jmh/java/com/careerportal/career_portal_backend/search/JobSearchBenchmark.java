@@ -0,0 +1,180 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.entity.Application;
+import com.careerportal.career_portal_backend.entity.EducationDetail;
+import com.careerportal.career_portal_backend.entity.Employer;
+import com.careerportal.career_portal_backend.entity.JobPosting;
+import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.entity.Role;
+import com.careerportal.career_portal_backend.entity.StoredFile;
+import com.careerportal.career_portal_backend.entity.User;
+import com.careerportal.career_portal_backend.specifications.JobSpecification;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyword search through JobSpecification (LIKE '%keyword%' over title, description and skills)
+ * against the in-memory JobSearchIndex, on the same generated postings.
+ * The specification runs on H2 in MySQL mode: both scan every row, but absolute numbers differ from MySQL,
+ * so compare the two paths with each other rather than with production latencies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobSearchBenchmark {
+
+    private static final String[] TITLES = {"Java Developer", "Frontend Engineer", "Data Analyst", "DevOps Engineer",
+            "Product Manager", "QA Engineer", "Android Developer", "Kubernetes Administrator"};
+    private static final String[] SKILLS = {"java", "spring", "react", "python", "sql", "docker", "kubernetes",
+            "kotlin", "selenium", "aws", "excel", "typescript"};
+    private static final String[] LOCATIONS = {"Pune", "Bengaluru", "Mumbai", "Hyderabad", "Remote"};
+    private static final String[] LEVELS = {"ENTRY", "MID", "SENIOR"};
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "datePosted").and(Sort.by(Sort.Direction.DESC, "id"));
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "10000"})
+    public int jobs;
+
+    // A common term and a selective one
+    @Param({"java", "kubernetes"})
+    public String keyword;
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private SimpleJpaRepository<JobPosting, Long> repository;
+    private JobSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Configuration configuration = new Configuration();
+        for (Class<?> entity : List.of(User.class, Role.class, Employer.class, JobPosting.class, Application.class,
+                JobSeekerProfile.class, EducationDetail.class, StoredFile.class)) {
+            configuration.addAnnotatedClass(entity);
+        }
+        configuration.setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:jobs;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        configuration.setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa");
+        configuration.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+        configuration.setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50");
+        sessionFactory = configuration.buildSessionFactory();
+
+        index = new JobSearchIndex(null);
+        ReflectionTestUtils.setField(index, "titleBoost", 3.0);
+        ReflectionTestUtils.setField(index, "skillsBoost", 2.0);
+        ReflectionTestUtils.setField(index, "descriptionBoost", 1.0);
+        ReflectionTestUtils.setField(index, "recencyBoost", 0.5);
+        ReflectionTestUtils.setField(index, "recencyHalfLifeDays", 30.0);
+
+        for (JobPosting job : insertJobs()) {
+            index.index(job);
+        }
+
+        entityManager = sessionFactory.createEntityManager();
+        repository = new SimpleJpaRepository<>(JobPosting.class, entityManager);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    // One page of the database search, as JobPostingService ran it for every keyword query before the index
+    @Benchmark
+    public Page<JobPosting> specification() {
+        Page<JobPosting> page = repository.findAll(JobSpecification.filterJobs(keyword, null, null),
+                PageRequest.of(0, PAGE_SIZE, NEWEST_FIRST));
+        entityManager.clear();
+        return page;
+    }
+
+    // All matching ids
+    @Benchmark
+    public List<Long> indexSearch() {
+        return index.search(keyword, null, null);
+    }
+
+    // Newest-first page sorted in the index (keyword search with an explicit sort)
+    @Benchmark
+    public SearchHits indexSortedPage() {
+        return index.page(keyword, null, null, JobSearchIndex.SortField.DATE_POSTED, false, 0, PAGE_SIZE);
+    }
+
+    // BM25 top page (the default relevance-ordered keyword search)
+    @Benchmark
+    public SearchHits indexRank() {
+        return index.rank(keyword, null, null, PAGE_SIZE);
+    }
+
+    private List<JobPosting> insertJobs() {
+        Random random = new Random(42);
+        List<JobPosting> inserted = new ArrayList<>(jobs);
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            User user = new User();
+            user.setUsername("benchmark-employer");
+            user.setEmail("employer@example.com");
+            user.setPassword("unused");
+            session.persist(user);
+
+            Employer employer = new Employer();
+            employer.setUser(user);
+            employer.setCompanyName("Benchmark Corp");
+            employer.setEmail("employer@example.com");
+            employer.setIndustry("Information Technology");
+            session.persist(employer);
+
+            for (int i = 0; i < jobs; i++) {
+                String skills = SKILLS[random.nextInt(SKILLS.length)] + ", " + SKILLS[random.nextInt(SKILLS.length)]
+                        + ", " + SKILLS[random.nextInt(SKILLS.length)];
+                JobPosting job = new JobPosting();
+                job.setEmployer(employer);
+                job.setJobTitle(TITLES[random.nextInt(TITLES.length)]);
+                job.setJobPosition("Engineer " + i);
+                job.setDescription("We are hiring to work with " + skills + " on customer facing products. "
+                        + "You will collaborate with product, design and operations teams.");
+                job.setRequiredSkills(skills);
+                job.setLocation(LOCATIONS[random.nextInt(LOCATIONS.length)]);
+                job.setExperienceLevel(LEVELS[random.nextInt(LEVELS.length)]);
+                job.setDatePosted(LocalDate.now().minusDays(random.nextInt(90)));
+                job.setIsActive(random.nextInt(10) != 0);
+                session.persist(job);
+                inserted.add(job);
+                if (i % 500 == 499) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            session.getTransaction().commit();
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,78 @@
+package com.careerportal.career_portal_backend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bearer token handling as done by JwtAuthenticationFilter on every authenticated request.
+ * "cached" answers repeat tokens from the VerifiedTokenCache; "uncached" uses a cache of size 0,
+ * so every call verifies the HMAC signature and parses the claims.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "Iu73k4hF9xP2QmA7tVwRz8BbCj6Gd2YqHs9Lp4Wx0TfKz1NvRr5Ug8MdXe3JyQnB";
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = provider(10_000);
+        uncachedProvider = provider(0);
+        token = cachedProvider.generateToken(new UsernamePasswordAuthenticationToken("benchmark-user", null,
+                List.of(new SimpleGrantedAuthority("ROLE_JOB_SEEKER"))));
+        // Same header and claims, broken signature
+        tamperedToken = token.substring(0, token.length() - 4) + (token.endsWith("AAAA") ? "BBBB" : "AAAA");
+    }
+
+    private static JwtTokenProvider provider(int cacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider(new VerifiedTokenCache(cacheSize), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationDate", TimeUnit.DAYS.toMillis(7));
+        provider.init();
+        return provider;
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return cachedProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenUncached() {
+        return uncachedProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return uncachedProvider.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public String getUsername() {
+        return uncachedProvider.getUsername(token);
+    }
+}
@@ -0,0 +1,119 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.careerportal.career_portal_backend.repository.StoredFileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FileStorageService.storeFile on a local temporary directory: hashing and signature check of the upload,
+ * then either a new blob (spool, sharded directory, atomic move) or a deduplicated re-upload (hash only).
+ * The stored_files bookkeeping is stubbed out, so the numbers are the file system and CPU share of an upload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileStorageBenchmark {
+
+    // 100 KB resume and a 5 MB scanned one
+    @Param({"102400", "5242880"})
+    public int fileSize;
+
+    private Path uploadDir;
+    private FileStorageService fileStorageService;
+    private byte[] content;
+    private MockMultipartFile duplicateUpload;
+    private long counter;
+    private String lastStored;
+
+    @Setup
+    public void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("upload-benchmark");
+        fileStorageService = new FileStorageService(uploadDir.toString(), storedFileRepositoryStub(),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(fileStorageService, "maxFileSize", DataSize.ofMegabytes(10));
+
+        content = new byte[fileSize];
+        new Random(42).nextBytes(content);
+        System.arraycopy(new byte[]{'%', 'P', 'D', 'F', '-', '1', '.', '7'}, 0, content, 0, 8);
+        duplicateUpload = new MockMultipartFile("file", "resume.pdf", "application/pdf", content.clone());
+        fileStorageService.storeFile(duplicateUpload, "resumes");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(uploadDir);
+    }
+
+    // Removes the blob written by storeNewFile so the disk does not fill up (not part of the measurement)
+    @TearDown(Level.Invocation)
+    public void deleteStoredFile() {
+        if (lastStored != null) {
+            fileStorageService.deleteFile(lastStored);
+            lastStored = null;
+        }
+    }
+
+    // Content never seen before: written to a new blob
+    @Benchmark
+    public String storeNewFile() {
+        // MockMultipartFile does not copy the array, so changing the bytes after the signature gives a new digest
+        ByteBuffer.wrap(content).putLong(8, ++counter);
+        lastStored = fileStorageService.storeFile(
+                new MockMultipartFile("file", "resume.pdf", "application/pdf", content), "resumes");
+        return lastStored;
+    }
+
+    // Identical content: hashed, found on disk and reused
+    @Benchmark
+    public String storeDuplicateFile() {
+        return fileStorageService.storeFile(duplicateUpload, "resumes");
+    }
+
+    // Every repository call is a no-op returning 0 / null
+    private static StoredFileRepository storedFileRepositoryStub() {
+        return (StoredFileRepository) Proxy.newProxyInstance(StoredFileRepository.class.getClassLoader(),
+                new Class<?>[]{StoredFileRepository.class}, (proxy, method, args) -> {
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == int.class) {
+                        return 0;
+                    }
+                    if (returnType == long.class) {
+                        return 0L;
+                    }
+                    if (returnType == boolean.class) {
+                        return method.getName().equals("equals") && args[0] == proxy;
+                    }
+                    if (method.getName().equals("toString")) {
+                        return "StoredFileRepository stub";
+                    }
+                    return null;
+                });
+    }
+}
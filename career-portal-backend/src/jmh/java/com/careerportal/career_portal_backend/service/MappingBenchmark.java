@@ -0,0 +1,87 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.careerportal.career_portal_backend.entity.Application;
+import com.careerportal.career_portal_backend.entity.Employer;
+import com.careerportal.career_portal_backend.entity.JobPosting;
+import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.payload.ApplicationResponseDto;
+import com.careerportal.career_portal_backend.payload.JobPostingDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping of job postings and applications (the per-row cost of every listing endpoint).
+ * The mappers are stateless components, so they are used as-is without a Spring context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private final JobPostingMapper jobPostingMapper = new JobPostingMapper();
+    private final ApplicationMapper applicationMapper = new ApplicationMapper();
+    private JobPosting jobPosting;
+    private Application application;
+
+    @Setup
+    public void setUp() {
+        Employer employer = new Employer();
+        employer.setId(1L);
+        employer.setCompanyName("Acme Software");
+
+        jobPosting = new JobPosting();
+        jobPosting.setId(42L);
+        jobPosting.setEmployer(employer);
+        jobPosting.setJobTitle("Senior Java Developer");
+        jobPosting.setJobPosition("Backend Engineer");
+        jobPosting.setDescription("Build and operate Spring Boot services backed by MySQL. ".repeat(20));
+        jobPosting.setRequiredSkills("Java, Spring Boot, JPA, MySQL, Docker");
+        jobPosting.setLocation("Pune");
+        jobPosting.setExperienceLevel("SENIOR");
+        jobPosting.setFunctionalArea("Engineering");
+        jobPosting.setIndustry("Information Technology");
+        jobPosting.setSalaryDetails("18-24 LPA");
+        jobPosting.setDatePosted(LocalDate.now());
+        jobPosting.setIsActive(true);
+
+        JobSeekerProfile jobSeeker = new JobSeekerProfile();
+        jobSeeker.setId(7L);
+        jobSeeker.setName("Asha Kulkarni");
+        jobSeeker.setEmail("asha@example.com");
+        jobSeeker.setMobile("9876543210");
+
+        application = new Application();
+        application.setId(1000L);
+        application.setJobPosting(jobPosting);
+        application.setJobSeekerProfile(jobSeeker);
+        application.setApplicationDate(LocalDateTime.now());
+        application.setStatus("PENDING");
+        application.setRecruiterNotes("Strong Spring background");
+        application.setResumeFileName("resume.pdf");
+    }
+
+    @Benchmark
+    public JobPostingDto jobPostingToDto() {
+        return jobPostingMapper.toDto(jobPosting);
+    }
+
+    @Benchmark
+    public ApplicationResponseDto applicationToDto() {
+        return applicationMapper.toDto(application);
+    }
+}
@@ -0,0 +1,67 @@
+package com.careerportal.career_portal_backend.config;
+
+import com.careerportal.career_portal_backend.security.PasswordHashingExecutor;
+import com.careerportal.career_portal_backend.security.UserDetailsCache;
+import com.careerportal.career_portal_backend.security.VerifiedTokenCache;
+import com.careerportal.career_portal_backend.service.JobPostingCache;
+import com.careerportal.career_portal_backend.service.JsonResponseCache;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics exposed on /actuator/prometheus.
+ * Service methods are timed with @Timed (careerportal.* timers, histograms configured in application.properties);
+ * the caches and pools that already keep their own statistics are bound here as gauges and counters.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Makes @Timed work on any Spring bean, not only on controllers
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    // Hit ratio, evictions and load time of the Caffeine caches (cache.gets, cache.evictions, cache.load.duration, ...)
+    @Bean
+    public MeterBinder cacheMetrics(JobPostingCache jobPostingCache, JsonResponseCache jsonResponseCache,
+                                    UserDetailsCache userDetailsCache) {
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, jobPostingCache.getJobCache(), "jobs");
+            CaffeineCacheMetrics.monitor(registry, jobPostingCache.getPageCache(), "job-pages");
+            CaffeineCacheMetrics.monitor(registry, jsonResponseCache.getCache(), "json-responses");
+            CaffeineCacheMetrics.monitor(registry, userDetailsCache.getCache(), "user-details");
+        };
+    }
+
+    @Bean
+    public MeterBinder securityMetrics(VerifiedTokenCache verifiedTokenCache, PasswordHashingExecutor passwordHashingExecutor) {
+        return registry -> {
+            FunctionCounter.builder("careerportal.jwt.cache.requests", verifiedTokenCache, VerifiedTokenCache::getHitCount)
+                    .tag("result", "hit")
+                    .description("Bearer tokens answered from the verified-token cache")
+                    .register(registry);
+            FunctionCounter.builder("careerportal.jwt.cache.requests", verifiedTokenCache, VerifiedTokenCache::getMissCount)
+                    .tag("result", "miss")
+                    .description("Bearer tokens that needed signature verification")
+                    .register(registry);
+            Gauge.builder("careerportal.jwt.cache.size", verifiedTokenCache, VerifiedTokenCache::size)
+                    .register(registry);
+
+            Gauge.builder("careerportal.bcrypt.queue.depth", passwordHashingExecutor, PasswordHashingExecutor::getQueueDepth)
+                    .description("Password hashing tasks waiting for a thread")
+                    .register(registry);
+            Gauge.builder("careerportal.bcrypt.active", passwordHashingExecutor, PasswordHashingExecutor::getActiveCount)
+                    .register(registry);
+            FunctionCounter.builder("careerportal.bcrypt.rejected", passwordHashingExecutor, PasswordHashingExecutor::getRejectedCount)
+                    .description("Logins and registrations refused with 503 because the hashing queue was full")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.careerportal.career_portal_backend.config;
+
+import com.careerportal.career_portal_backend.service.FileStorageService;
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+@Configuration
+public class MultipartConfig {
+
+    // Same limits as spring.servlet.multipart.*, but uploads are spooled inside the upload directory,
+    // so FileStorageService can rename the spool file into place instead of copying it
+    @Bean
+    public MultipartConfigElement multipartConfigElement(MultipartProperties properties,
+                                                         @Value("${app.file.upload-dir:${file.upload.dir:uploads}}") String uploadDir) {
+        Path location = Paths.get(uploadDir).toAbsolutePath().normalize()
+                .resolve(FileStorageService.TEMP_DIRECTORY).resolve("multipart");
+        try {
+            Files.createDirectories(location);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create the multipart spool directory " + location, e);
+        }
+
+        MultipartConfigFactory factory = new MultipartConfigFactory();
+        factory.setLocation(location.toString());
+        factory.setMaxFileSize(properties.getMaxFileSize());
+        factory.setMaxRequestSize(properties.getMaxRequestSize());
+        factory.setFileSizeThreshold(properties.getFileSizeThreshold());
+        return factory.createMultipartConfig();
+    }
+}
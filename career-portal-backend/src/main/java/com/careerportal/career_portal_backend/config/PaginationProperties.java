@@ -0,0 +1,31 @@
+package com.careerportal.career_portal_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Shared page-size limits for the public listing endpoints
+@Component
+public class PaginationProperties {
+
+    @Value("${app.pagination.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${app.pagination.max-page-size:100}")
+    private int maxPageSize;
+
+    // Missing or non-positive sizes get the default, anything above the hard maximum is capped
+    public int resolvePageSize(Integer requestedSize) {
+        if (requestedSize == null || requestedSize <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(requestedSize, maxPageSize);
+    }
+
+    public int resolvePage(Integer requestedPage) {
+        return requestedPage == null || requestedPage < 0 ? 0 : requestedPage;
+    }
+
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+}
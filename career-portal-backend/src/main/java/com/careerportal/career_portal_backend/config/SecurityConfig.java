@@ -2,10 +2,15 @@ package com.careerportal.career_portal_backend.config;
 
 import com.careerportal.career_portal_backend.security.JwtAuthenticationEntryPoint;
 import com.careerportal.career_portal_backend.security.JwtAuthenticationFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -14,7 +19,12 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.util.Arrays;
+import java.util.List;
 
 @Configuration
 @EnableMethodSecurity
@@ -23,19 +33,26 @@ public class SecurityConfig {
     private final UserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint authenticationEntryPoint;
+    private final List<IpAddressMatcher> metricsScrapers;
 
     public SecurityConfig(UserDetailsService userDetailsService,
                           JwtAuthenticationFilter jwtAuthenticationFilter,
-                          JwtAuthenticationEntryPoint authenticationEntryPoint) {
+                          JwtAuthenticationEntryPoint authenticationEntryPoint,
+                          @Value("${app.metrics.scrape-allowed-addresses:127.0.0.1,::1}") String[] metricsScrapers) {
         this.userDetailsService = userDetailsService;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.authenticationEntryPoint = authenticationEntryPoint;
+        this.metricsScrapers = Arrays.stream(metricsScrapers)
+                .map(String::trim)
+                .filter(address -> !address.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
     }
 
-    // Use BCrypt for password hashing
+    // Use BCrypt for password hashing; existing hashes keep verifying when the cost factor changes
     @Bean
-    public static PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public static PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.strength:10}") int strength){
+        return new BCryptPasswordEncoder(strength);
     }
 
     // Manages the authentication process
@@ -56,6 +73,8 @@ public class SecurityConfig {
                                 .requestMatchers(HttpMethod.GET, "/api/employer/all").permitAll() // Allow public access to view companies
                                 .requestMatchers(HttpMethod.GET, "/api/jobseekers/all").permitAll() // Allow public access to view job seekers
                                 .requestMatchers(HttpMethod.GET, "/uploads/**").permitAll() // Allow public access to uploaded files
+                                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll() // Health checks
+                                .requestMatchers(HttpMethod.GET, "/actuator/prometheus").access(metricsScrapeAccess()) // Scraper addresses or admins only
                                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // Allow preflight requests
                                 .anyRequest().authenticated() // Secure all other endpoints
                 ).exceptionHandling(exception -> exception
@@ -68,4 +87,12 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    // Metrics reveal traffic and internals: allow the configured scraper addresses (IPs or CIDR ranges,
+    // as seen by this server, so a proxy address when behind one) and authenticated admins
+    private AuthorizationManager<RequestAuthorizationContext> metricsScrapeAccess() {
+        AuthorizationManager<RequestAuthorizationContext> fromScraper = (authentication, context) ->
+                new AuthorizationDecision(metricsScrapers.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+        return AuthorizationManagers.anyOf(fromScraper, AuthorityAuthorizationManager.hasRole("ADMIN"));
+    }
 }
@@ -0,0 +1,125 @@
+package com.careerportal.career_portal_backend.config;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Counts the SQL statements Hibernate prepares, and the time spent executing them, for the current request thread.
+ * SqlStatementFilter opens a window per HTTP request; outside a window the inspector does nothing.
+ * Work a request hands to another thread counts towards its window when wrapped with inCurrentWindow().
+ * Statements issued through JdbcTemplate (the batch insert repository) bypass Hibernate and are not counted.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+        hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, ExecutionTimer.class.getName());
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+        }
+        return sql;
+    }
+
+    /** Starts counting for the current thread; returns the counters, which keep updating until end() */
+    static Stats begin() {
+        Stats stats = new Stats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /** Continues counting into a window opened earlier (the async dispatch of the same request) */
+    static void resume(Stats stats) {
+        CURRENT.set(stats);
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Binds the caller's window (if one is open) to the thread that runs the task, e.g. the continuation of an
+     * async request on an executor. The task must run before the request completes to be included.
+     */
+    public static <T, R> Function<T, R> inCurrentWindow(Function<T, R> task) {
+        Stats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return value -> {
+            Stats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                return task.apply(value);
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    /** Statement count and JDBC execution time of one request */
+    static final class Stats {
+        private int statements;
+        private long executionNanos;
+
+        int getStatements() {
+            return statements;
+        }
+
+        long getExecutionNanos() {
+            return executionNanos;
+        }
+    }
+
+    /** Hibernate creates one listener per session (hibernate.session.events.auto); sessions are confined to one thread */
+    public static class ExecutionTimer implements SessionEventListener {
+
+        private long statementStart;
+        private long batchStart;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            statementStart = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            addTime(statementStart);
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            batchStart = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            addTime(batchStart);
+        }
+
+        private static void addTime(long start) {
+            Stats stats = CURRENT.get();
+            if (stats != null && start != 0) {
+                stats.executionNanos += System.nanoTime() - start;
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.careerportal.career_portal_backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request SQL statement accounting (development and test diagnostics, off unless app.sql-stats.enabled=true).
+ * - X-SQL-Statements / X-SQL-Time-Ms response headers with the Hibernate statements of the request.
+ * - careerportal.sql.statements and careerportal.sql.time meters tagged with the matched URI pattern.
+ * - Requests above app.sql-stats.budget statements are logged (usually an N+1 lazy-loading loop); with
+ *   app.sql-stats.fail-on-budget=true, as in the tests, they are answered with a 500 instead. The body is buffered
+ *   in that mode so the status can still be replaced once the handler has run.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementFilter.class);
+
+    private static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    private static final String TIME_HEADER = "X-SQL-Time-Ms";
+    private static final String STATS_ATTRIBUTE = SqlStatementFilter.class.getName() + ".STATS";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.sql-stats.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.sql-stats.budget:25}")
+    private int budget;
+
+    @Value("${app.sql-stats.fail-on-budget:false}")
+    private boolean failOnBudget;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    // Async requests (login, registration) finish on an async dispatch: the statements of the work handed to
+    // other threads are only known then, and the buffered body is flushed there
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Stats stats = (SqlStatementCounter.Stats) request.getAttribute(STATS_ATTRIBUTE);
+        if (stats == null) {
+            stats = SqlStatementCounter.begin();
+            request.setAttribute(STATS_ATTRIBUTE, stats);
+        } else {
+            SqlStatementCounter.resume(stats);
+        }
+        if (failOnBudget) {
+            doFilterBuffered(request, response, filterChain, stats);
+        } else {
+            doFilterUnbuffered(request, response, filterChain, stats);
+        }
+    }
+
+    private void doFilterUnbuffered(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                                    SqlStatementCounter.Stats stats) throws ServletException, IOException {
+        HttpServletResponse target = response;
+        if (!isAsyncDispatch(request)) {
+            // Headers have to be added before the first body byte commits the response; an async dispatch
+            // writes through the wrapper created here
+            target = new OnCommittedResponseWrapper(response) {
+                @Override
+                protected void onResponseCommitted() {
+                    addHeaders(response, stats);
+                }
+            };
+        }
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            SqlStatementCounter.end();
+        }
+        if (isAsyncStarted(request)) {
+            return;
+        }
+        // Nothing written through the wrapper (empty bodies, sendfile): the headers can still be set here
+        if (!response.isCommitted()) {
+            addHeaders(response, stats);
+        }
+        String overBudget = record(request, stats);
+        if (overBudget != null) {
+            logger.warn("{}; look for lazy associations loaded in a loop", overBudget);
+        }
+    }
+
+    private void doFilterBuffered(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                                  SqlStatementCounter.Stats stats) throws ServletException, IOException {
+        // An async dispatch reuses the buffer of the initial dispatch
+        ContentCachingResponseWrapper buffered = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        HttpServletResponse target = response;
+        if (buffered == null) {
+            buffered = new ContentCachingResponseWrapper(response);
+            target = buffered;
+        }
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            SqlStatementCounter.end();
+        }
+        if (isAsyncStarted(request)) {
+            return;
+        }
+        HttpServletResponse raw = (HttpServletResponse) buffered.getResponse();
+        String overBudget = record(request, stats);
+        if (overBudget != null) {
+            logger.error("{}; look for lazy associations loaded in a loop", overBudget);
+        }
+        if (raw.isCommitted()) {
+            return;
+        }
+        if (overBudget != null) {
+            buffered.reset();
+            addHeaders(raw, stats);
+            raw.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, overBudget);
+            return;
+        }
+        addHeaders(raw, stats);
+        // The wrapper holds back Content-Length; bodies written by Tomcat's sendfile never pass through it
+        String contentLength = buffered.getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (buffered.getContentSize() == 0 && contentLength != null) {
+            raw.setContentLengthLong(Long.parseLong(contentLength));
+        }
+        buffered.copyBodyToResponse();
+    }
+
+    private static void addHeaders(HttpServletResponse response, SqlStatementCounter.Stats stats) {
+        response.setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+        response.setHeader(TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getExecutionNanos())));
+    }
+
+    // Returns the budget violation message, or null when the request stayed within the budget
+    private String record(HttpServletRequest request, SqlStatementCounter.Stats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("careerportal.sql.statements")
+                .description("Hibernate SQL statements per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("careerportal.sql.time")
+                .description("JDBC execution time per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getExecutionNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatements() <= budget) {
+            return null;
+        }
+        return request.getMethod() + " " + request.getRequestURI() + " issued " + stats.getStatements()
+                + " SQL statements (budget " + budget + ")";
+    }
+}
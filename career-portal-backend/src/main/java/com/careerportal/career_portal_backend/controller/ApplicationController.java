@@ -10,6 +10,10 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
 import java.util.List;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -18,9 +22,11 @@ import org.springframework.web.multipart.MultipartFile;
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final FileResponseWriter fileResponseWriter;
 
-    public ApplicationController(ApplicationService applicationService) {
+    public ApplicationController(ApplicationService applicationService, FileResponseWriter fileResponseWriter) {
         this.applicationService = applicationService;
+        this.fileResponseWriter = fileResponseWriter;
     }
 
     // --- Job Seeker Endpoints ---
@@ -84,24 +90,29 @@ public class ApplicationController {
 
     // Download resume for an application
     @PreAuthorize("hasRole('EMPLOYER')")
+    // Supports If-None-Match / If-Modified-Since (304) and Range requests; private because it needs authorization
     @GetMapping("/{applicationId}/resume")
-    public ResponseEntity<org.springframework.core.io.Resource> downloadResume(
+    public void downloadResume(
             @PathVariable Long applicationId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
 
+        boolean served;
         try {
             org.springframework.core.io.Resource resource = applicationService.getApplicationResume(
                     applicationId, userDetails.getUsername());
 
             String fileName = applicationService.getApplicationResumeFileName(applicationId, userDetails.getUsername());
 
-            return ResponseEntity.ok()
-                    .contentType(org.springframework.http.MediaType.APPLICATION_PDF)
-                    .header(org.springframework.http.HttpHeaders.CONTENT_DISPOSITION, 
-                            "attachment; filename=\"" + fileName + "\"")
-                    .body(resource);
+            served = fileResponseWriter.write(request, response, resource.getFile().toPath(),
+                    org.springframework.http.MediaType.APPLICATION_PDF_VALUE,
+                    "attachment; filename=\"" + fileName + "\"", "private, max-age=3600");
         } catch (Exception e) {
-            return ResponseEntity.notFound().build();
+            served = false;
+        }
+        if (!served && !response.isCommitted()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
         }
     }
 }
\ No newline at end of file
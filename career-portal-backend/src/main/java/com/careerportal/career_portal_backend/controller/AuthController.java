@@ -1,30 +1,32 @@
 package com.careerportal.career_portal_backend.controller;
 
 
-import com.careerportal.career_portal_backend.entity.Role;
+import com.careerportal.career_portal_backend.config.SqlStatementCounter;
+import com.careerportal.career_portal_backend.execption.ServiceBusyException;
 import com.careerportal.career_portal_backend.entity.User;
 import com.careerportal.career_portal_backend.payload.LoginDto;
 import com.careerportal.career_portal_backend.payload.RegisterDto;
 import com.careerportal.career_portal_backend.payload.JobSeekerRegisterDto;
 import com.careerportal.career_portal_backend.payload.EmployerRegisterDto;
-import com.careerportal.career_portal_backend.repository.RoleRepository;
 import com.careerportal.career_portal_backend.repository.UserRepository;
 import com.careerportal.career_portal_backend.repository.EmployerRepository;
 import com.careerportal.career_portal_backend.security.JwtTokenProvider;
-import com.careerportal.career_portal_backend.service.EmployerService;
-import com.careerportal.career_portal_backend.service.JobSeekerProfileService;
+import com.careerportal.career_portal_backend.security.PasswordHashingExecutor;
+import com.careerportal.career_portal_backend.service.RegistrationService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -33,195 +35,163 @@ public class AuthController {
     private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
     private final EmployerRepository employerRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final JwtTokenProvider tokenProvider;
-    private final EmployerService employerService;
-    private final JobSeekerProfileService jobSeekerProfileService;
+    private final RegistrationService registrationService;
+    // Runs the database part of a registration once the hash is ready, so the hashing pool only ever runs BCrypt
+    private final Executor registrationExecutor;
 
     public AuthController(AuthenticationManager authenticationManager,
                           UserRepository userRepository,
-                          RoleRepository roleRepository,
                           EmployerRepository employerRepository,
-                          PasswordEncoder passwordEncoder,
+                          PasswordHashingExecutor passwordHashingExecutor,
                           JwtTokenProvider tokenProvider,
-                          EmployerService employerService,
-                          JobSeekerProfileService jobSeekerProfileService) {
+                          RegistrationService registrationService,
+                          @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                          Executor registrationExecutor) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
-        this.roleRepository = roleRepository;
         this.employerRepository = employerRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
         this.tokenProvider = tokenProvider;
-        this.employerService = employerService;
-        this.jobSeekerProfileService = jobSeekerProfileService;
+        this.registrationService = registrationService;
+        this.registrationExecutor = registrationExecutor;
     }
 
     // --- Login Endpoint ---
+    // The BCrypt check runs on the password hashing pool; the request thread is released while it waits
     @PostMapping("/login")
-    public ResponseEntity<String> authenticateUser(@RequestBody @jakarta.validation.Valid LoginDto loginDto){
-        try {
-            logger.info("Login attempt for user: {}", loginDto.getUsernameOrEmail());
-
-            // 1. Authenticate the user credentials (supports both username and email)
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            loginDto.getUsernameOrEmail(), loginDto.getPassword()));
-
-            // 2. Set the authentication in the Security Context
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-
-            // 3. Generate JWT token
-            String token = tokenProvider.generateToken(authentication);
-
-            logger.info("Login successful for user: {}", loginDto.getUsernameOrEmail());
-
-            // 4. Return the token to the client
-            return new ResponseEntity<>("Bearer " + token, HttpStatus.OK);
-        } catch (Exception e) {
-            logger.error("Login failed for user: {}", loginDto.getUsernameOrEmail(), e);
-            return new ResponseEntity<>("Invalid username/email or password", HttpStatus.UNAUTHORIZED);
-        }
+    public CompletableFuture<ResponseEntity<String>> authenticateUser(@RequestBody @jakarta.validation.Valid LoginDto loginDto){
+        logger.info("Login attempt for user: {}", loginDto.getUsernameOrEmail());
+
+        // 1. Authenticate the user credentials (supports both username and email)
+        return passwordHashingExecutor.submit(() -> authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(
+                                loginDto.getUsernameOrEmail(), loginDto.getPassword())))
+                .thenApply(authentication -> {
+                    // 2. Generate JWT token (sessions are stateless, so no SecurityContext is kept)
+                    String token = tokenProvider.generateToken(authentication);
+
+                    logger.info("Login successful for user: {}", loginDto.getUsernameOrEmail());
+
+                    // 3. Return the token to the client
+                    return new ResponseEntity<>("Bearer " + token, HttpStatus.OK);
+                })
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof ServiceBusyException) {
+                        logger.warn("Login rejected for user {}: {}", loginDto.getUsernameOrEmail(), cause.getMessage());
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(cause.getMessage());
+                    }
+                    logger.error("Login failed for user: {}", loginDto.getUsernameOrEmail(), cause);
+                    return new ResponseEntity<>("Invalid username/email or password", HttpStatus.UNAUTHORIZED);
+                });
     }
 
     // --- Register Endpoint ---
+    // Checks run on the request thread and the BCrypt hash on the password hashing pool; once it is ready the
+    // user and profile are saved in one transaction on the application task executor (503 when the pool is
+    // saturated, like login)
     @PostMapping("/register")
-    public ResponseEntity<String> registerUser(@RequestBody RegisterDto registerDto){
+    public CompletableFuture<ResponseEntity<String>> registerUser(@RequestBody RegisterDto registerDto){
 
         // 1. Check if username already exists
         if(userRepository.existsByUsername(registerDto.getUsername())){
-            return new ResponseEntity<>("Username is already taken!", HttpStatus.BAD_REQUEST);
+            return CompletableFuture.completedFuture(new ResponseEntity<>("Username is already taken!", HttpStatus.BAD_REQUEST));
         }
 
-        // 2. Create the new User object
-        User user = new User();
-        user.setUsername(registerDto.getUsername());
-        user.setPassword(passwordEncoder.encode(registerDto.getPassword())); // HASH the password
-
-        // 3. Assign the appropriate Role
-        Role role = null;
+        // 2. Find the appropriate Role name
+        String roleName;
         if (registerDto.getRole().equalsIgnoreCase("jobseeker")) {
-            // Find or create the JOB_SEEKER role
-            role = roleRepository.findByName("ROLE_JOB_SEEKER")
-                    .orElseGet(() -> new Role("ROLE_JOB_SEEKER"));
+            roleName = "ROLE_JOB_SEEKER";
         } else if (registerDto.getRole().equalsIgnoreCase("employer")) {
-            // Find or create the EMPLOYER role
-            role = roleRepository.findByName("ROLE_EMPLOYER")
-                    .orElseGet(() -> new Role("ROLE_EMPLOYER"));
+            roleName = "ROLE_EMPLOYER";
         } else {
-            return new ResponseEntity<>("Invalid role specified!", HttpStatus.BAD_REQUEST);
+            return CompletableFuture.completedFuture(new ResponseEntity<>("Invalid role specified!", HttpStatus.BAD_REQUEST));
         }
 
-        // Save the role if it was newly created
-        if (role.getId() == null) {
-            role = roleRepository.save(role);
-        }
-
-        user.setRoles(Collections.singleton(role));
+        // 3. Hash the password off the request thread, then save the user (and an employer's default profile)
+        return passwordHashingExecutor.encodeAsync(registerDto.getPassword())
+                .thenApplyAsync(SqlStatementCounter.inCurrentWindow(passwordHash -> {
+                    User savedUser = registrationService.registerUser(registerDto.getUsername(), roleName, passwordHash);
+                    logger.info("User registered successfully: {}", savedUser.getUsername());
+                    // Note: JobSeeker profiles will be created via separate registration endpoint
 
-        // 4. Save the new User to the database
-        User savedUser = userRepository.save(user);
-        logger.info("User registered successfully: {}", savedUser.getUsername());
-
-        // 5. Create corresponding profile based on role
-        if (registerDto.getRole().equalsIgnoreCase("employer")) {
-            employerService.createDefaultEmployerProfile(savedUser);
-            logger.info("Created employer profile for user: {}", savedUser.getUsername());
-        }
-        // Note: JobSeeker profiles will be created via separate registration endpoint
-
-        return new ResponseEntity<>("User registered successfully!", HttpStatus.OK);
+                    return new ResponseEntity<>("User registered successfully!", HttpStatus.OK);
+                }), registrationExecutor)
+                .exceptionally(ex -> registrationFailed("user", registerDto.getUsername(), ex));
     }
 
     // --- Job Seeker Registration Endpoint ---
     @PostMapping("/register/jobseeker")
-    public ResponseEntity<String> registerJobSeeker(@RequestBody @jakarta.validation.Valid JobSeekerRegisterDto registerDto) {
-        try {
-            logger.info("Registering job seeker: {}", registerDto.getUsername());
-
-            // 1. Check if username or email already exists
-            if (userRepository.existsByUsername(registerDto.getUsername())) {
-                return new ResponseEntity<>("Username is already taken!", HttpStatus.BAD_REQUEST);
-            }
-
-            // Check if email already exists
-            if (userRepository.findByEmail(registerDto.getEmail()).isPresent()) {
-                return new ResponseEntity<>("Email is already registered!", HttpStatus.BAD_REQUEST);
-            }
-
-            // 2. Create the new User object
-            User user = new User();
-            user.setUsername(registerDto.getUsername());
-            user.setEmail(registerDto.getEmail());
-            user.setPassword(passwordEncoder.encode(registerDto.getPassword()));
-
-            // 3. Assign the JOB_SEEKER role
-            Role role = roleRepository.findByName("ROLE_JOB_SEEKER")
-                    .orElseGet(() -> roleRepository.save(new Role("ROLE_JOB_SEEKER")));
-
-            user.setRoles(Collections.singleton(role));
-
-            // 4. Save the new User to the database
-            User savedUser = userRepository.save(user);
-            logger.info("Job seeker user registered successfully: {}", savedUser.getUsername());
-
-            // 5. Create the job seeker profile
-            jobSeekerProfileService.createJobSeekerProfile(savedUser, registerDto);
-            logger.info("Created job seeker profile for user: {}", savedUser.getUsername());
-
-            return new ResponseEntity<>("Job seeker registered successfully!", HttpStatus.OK);
-        } catch (Exception e) {
-            logger.error("Error registering job seeker: {}", registerDto.getUsername(), e);
-            return new ResponseEntity<>("Registration failed: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+    public CompletableFuture<ResponseEntity<String>> registerJobSeeker(@RequestBody @jakarta.validation.Valid JobSeekerRegisterDto registerDto) {
+        logger.info("Registering job seeker: {}", registerDto.getUsername());
+
+        // 1. Check if username or email already exists
+        if (userRepository.existsByUsername(registerDto.getUsername())) {
+            return CompletableFuture.completedFuture(new ResponseEntity<>("Username is already taken!", HttpStatus.BAD_REQUEST));
         }
+
+        // Check if email already exists
+        if (userRepository.findByEmail(registerDto.getEmail()).isPresent()) {
+            return CompletableFuture.completedFuture(new ResponseEntity<>("Email is already registered!", HttpStatus.BAD_REQUEST));
+        }
+
+        // 2. Hash the password off the request thread, then save the user with the JOB_SEEKER role and its profile
+        return passwordHashingExecutor.encodeAsync(registerDto.getPassword())
+                .thenApplyAsync(SqlStatementCounter.inCurrentWindow(passwordHash -> {
+                    User savedUser = registrationService.registerJobSeeker(registerDto, passwordHash);
+                    logger.info("Job seeker registered successfully: {}", savedUser.getUsername());
+
+                    return new ResponseEntity<>("Job seeker registered successfully!", HttpStatus.OK);
+                }), registrationExecutor)
+                .exceptionally(ex -> registrationFailed("job seeker", registerDto.getUsername(), ex));
     }
 
     // --- Employer Registration Endpoint ---
     @PostMapping("/register/employer")
-    public ResponseEntity<String> registerEmployer(@RequestBody @jakarta.validation.Valid EmployerRegisterDto registerDto) {
-        try {
-            logger.info("Registering employer: {}", registerDto.getUsername());
-
-            // 1. Check if username or email already exists
-            if (userRepository.existsByUsername(registerDto.getUsername())) {
-                return new ResponseEntity<>("Username is already taken!", HttpStatus.BAD_REQUEST);
-            }
-
-            // Check if email already exists
-            if (userRepository.findByEmail(registerDto.getEmail()).isPresent()) {
-                return new ResponseEntity<>("Email is already registered!", HttpStatus.BAD_REQUEST);
-            }
-
-            // Check if company name already exists
-            if (employerRepository.existsByCompanyName(registerDto.getCompanyName())) {
-                return new ResponseEntity<>("Company name is already registered!", HttpStatus.BAD_REQUEST);
-            }
-
-            // 2. Create the new User object
-            User user = new User();
-            user.setUsername(registerDto.getUsername());
-            user.setEmail(registerDto.getEmail());
-            user.setPassword(passwordEncoder.encode(registerDto.getPassword()));
-
-            // 3. Assign the EMPLOYER role
-            Role role = roleRepository.findByName("ROLE_EMPLOYER")
-                    .orElseGet(() -> roleRepository.save(new Role("ROLE_EMPLOYER")));
-
-            user.setRoles(Collections.singleton(role));
-
-            // 4. Save the new User to the database
-            User savedUser = userRepository.save(user);
-            logger.info("Employer user registered successfully: {}", savedUser.getUsername());
-
-            // 5. Create the employer profile
-            employerService.createEmployerProfile(savedUser, registerDto);
-            logger.info("Created employer profile for user: {}", savedUser.getUsername());
-
-            return new ResponseEntity<>("Employer registered successfully!", HttpStatus.OK);
-        } catch (Exception e) {
-            logger.error("Error registering employer: {}", registerDto.getUsername(), e);
-            return new ResponseEntity<>("Registration failed: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+    public CompletableFuture<ResponseEntity<String>> registerEmployer(@RequestBody @jakarta.validation.Valid EmployerRegisterDto registerDto) {
+        logger.info("Registering employer: {}", registerDto.getUsername());
+
+        // 1. Check if username or email already exists
+        if (userRepository.existsByUsername(registerDto.getUsername())) {
+            return CompletableFuture.completedFuture(new ResponseEntity<>("Username is already taken!", HttpStatus.BAD_REQUEST));
+        }
+
+        // Check if email already exists
+        if (userRepository.findByEmail(registerDto.getEmail()).isPresent()) {
+            return CompletableFuture.completedFuture(new ResponseEntity<>("Email is already registered!", HttpStatus.BAD_REQUEST));
+        }
+
+        // Check if company name already exists
+        if (employerRepository.existsByCompanyName(registerDto.getCompanyName())) {
+            return CompletableFuture.completedFuture(new ResponseEntity<>("Company name is already registered!", HttpStatus.BAD_REQUEST));
+        }
+
+        // 2. Hash the password off the request thread, then save the user with the EMPLOYER role and its profile
+        return passwordHashingExecutor.encodeAsync(registerDto.getPassword())
+                .thenApplyAsync(SqlStatementCounter.inCurrentWindow(passwordHash -> {
+                    User savedUser = registrationService.registerEmployer(registerDto, passwordHash);
+                    logger.info("Employer registered successfully: {}", savedUser.getUsername());
+
+                    return new ResponseEntity<>("Employer registered successfully!", HttpStatus.OK);
+                }), registrationExecutor)
+                .exceptionally(ex -> registrationFailed("employer", registerDto.getUsername(), ex));
+    }
+
+    // A saturated hashing pool answers 503 so the client retries; anything else is a failed registration
+    private ResponseEntity<String> registrationFailed(String kind, String username, Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof ServiceBusyException) {
+            logger.warn("Registration rejected for {} {}: {}", kind, username, cause.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(cause.getMessage());
         }
+        logger.error("Error registering {}: {}", kind, username, cause);
+        return new ResponseEntity<>("Registration failed: " + cause.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 }
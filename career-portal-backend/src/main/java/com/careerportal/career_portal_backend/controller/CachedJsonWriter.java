@@ -0,0 +1,67 @@
+package com.careerportal.career_portal_backend.controller;
+
+import com.careerportal.career_portal_backend.service.JsonResponseCache.CachedJson;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns a pre-serialized JSON response into a ResponseEntity.
+ * - If-None-Match matching either encoding's ETag answers 304 with no body.
+ * - Clients that accept gzip get the compressed copy with Content-Encoding: gzip.
+ * - "no-cache" lets browsers keep the body but revalidate it on every use, which costs a 304.
+ */
+@Component
+class CachedJsonWriter {
+
+    ResponseEntity<byte[]> toResponse(HttpServletRequest request, CachedJson json) {
+        boolean gzip = json.getGzipBody() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? json.getGzipEtag() : json.getEtag();
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (FileResponseWriter.matchesEtag(ifNoneMatch, json.getEtag())
+                || FileResponseWriter.matchesEtag(ifNoneMatch, json.getGzipEtag()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(json.getGzipBody().length)
+                    .body(json.getGzipBody());
+        }
+        return builder.contentLength(json.getBody().length).body(json.getBody());
+    }
+
+    // "gzip" listed without q=0 (e.g. "gzip, deflate, br" or "gzip;q=0.8")
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                if (parts[i].trim().replace(" ", "").matches("q=0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -3,8 +3,13 @@ package com.careerportal.career_portal_backend.controller;
 import com.careerportal.career_portal_backend.entity.Employer;
 import com.careerportal.career_portal_backend.entity.User;
 import com.careerportal.career_portal_backend.payload.EmployerDto;
+import com.careerportal.career_portal_backend.payload.PagedResponse;
 import com.careerportal.career_portal_backend.repository.UserRepository;
 import com.careerportal.career_portal_backend.service.EmployerService;
+import com.careerportal.career_portal_backend.service.JsonResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -14,6 +19,8 @@ import org.springframework.web.bind.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/employer")
 public class EmployerController {
@@ -21,10 +28,15 @@ public class EmployerController {
     private static final Logger logger = LoggerFactory.getLogger(EmployerController.class);
     private final EmployerService employerService;
     private final UserRepository userRepository;
+    private final JsonResponseCache jsonResponseCache;
+    private final CachedJsonWriter cachedJsonWriter;
 
-    public EmployerController(EmployerService employerService, UserRepository userRepository) {
+    public EmployerController(EmployerService employerService, UserRepository userRepository,
+                              JsonResponseCache jsonResponseCache, CachedJsonWriter cachedJsonWriter) {
         this.employerService = employerService;
         this.userRepository = userRepository;
+        this.jsonResponseCache = jsonResponseCache;
+        this.cachedJsonWriter = cachedJsonWriter;
     }
 
     @PreAuthorize("hasRole('EMPLOYER')")
@@ -88,22 +100,33 @@ public class EmployerController {
         }
     }
 
+    // Served as pre-serialized bytes from the response cache; a matching If-None-Match gets 304
     @GetMapping("/all")
-    public ResponseEntity<java.util.List<EmployerDto>> getAllEmployers(
+    public ResponseEntity<byte[]> getAllEmployers(
             @RequestParam(value = "companyName", required = false) String companyName,
             @RequestParam(value = "industry", required = false) String industry,
-            @RequestParam(value = "foundedAfter", required = false) Integer foundedAfter) {
+            @RequestParam(value = "foundedAfter", required = false) Integer foundedAfter,
+            @RequestParam(value = "createdAfter", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdAfter,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            HttpServletRequest request) {
         try {
-            logger.info("Fetching all employers with filters - companyName: {}, industry: {}, foundedAfter: {}", 
-                companyName, industry, foundedAfter);
+            logger.info("Fetching all employers with filters - companyName: {}, industry: {}, foundedAfter: {}, createdAfter: {}",
+                companyName, industry, foundedAfter, createdAfter);
             
-            java.util.List<Employer> employers = employerService.getAllEmployers(companyName, industry, foundedAfter);
-            java.util.List<EmployerDto> employerDtos = employers.stream()
-                    .map(this::mapToDto)
-                    .collect(java.util.stream.Collectors.toList());
+            JsonResponseCache.CachedJson employers = jsonResponseCache.get(
+                    JsonResponseCache.key(JsonResponseCache.EMPLOYERS, "all", companyName, industry, foundedAfter, createdAfter, page, size),
+                    () -> {
+                        Page<Employer> found = employerService.getAllEmployers(companyName, industry, foundedAfter, createdAfter, page, size);
+                        java.util.List<EmployerDto> employerDtos = found.getContent().stream()
+                                .map(this::mapToDto)
+                                .collect(java.util.stream.Collectors.toList());
+                        logger.info("Found {} employers", employerDtos.size());
+                        return PagedResponse.fromPage(found, employerDtos);
+                    });
             
-            logger.info("Found {} employers", employerDtos.size());
-            return ResponseEntity.ok(employerDtos);
+            return cachedJsonWriter.toResponse(request, employers);
         } catch (Exception e) {
             logger.error("Error fetching employers", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
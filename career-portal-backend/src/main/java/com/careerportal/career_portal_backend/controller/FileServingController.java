@@ -1,19 +1,19 @@
 package com.careerportal.career_portal_backend.controller;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import com.careerportal.career_portal_backend.service.FileStorageService;
+import com.careerportal.career_portal_backend.service.PhotoVariants;
+import com.careerportal.career_portal_backend.service.ThumbnailService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 
 @RestController
 @RequestMapping("/uploads")
@@ -22,80 +22,101 @@ public class FileServingController {
 
     private static final Logger logger = LoggerFactory.getLogger(FileServingController.class);
     
-    @Value("${file.upload.dir:uploads}")
-    private String uploadDir;
+    private static final int DEBUG_LISTING_LIMIT = 100;
+
+    private final FileResponseWriter fileResponseWriter;
+    private final ThumbnailService thumbnailService;
+    private final FileStorageService fileStorageService;
+
+    public FileServingController(FileResponseWriter fileResponseWriter, ThumbnailService thumbnailService,
+                                 FileStorageService fileStorageService) {
+        this.fileResponseWriter = fileResponseWriter;
+        this.thumbnailService = thumbnailService;
+        this.fileStorageService = fileStorageService;
+    }
 
     @GetMapping("/resumes/{filename:.+}")
-    public ResponseEntity<Resource> serveResumeFile(@PathVariable String filename) {
-        return serveFile("resumes", filename);
+    public void serveResumeFile(@PathVariable String filename, HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        serveFile("resumes", filename, request, response);
     }
 
+    // size=64 or size=256 serves the pre-sized variant; until it exists the original is served and the variant is queued
     @GetMapping("/photos/{filename:.+}")
-    public ResponseEntity<Resource> servePhotoFile(@PathVariable String filename) {
-        return serveFile("photos", filename);
+    public void servePhotoFile(@PathVariable String filename,
+                               @RequestParam(value = "size", required = false) Integer size,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        if (size != null && PhotoVariants.isSupported(size)) {
+            String variant = PhotoVariants.pathFor(filename, size);
+            if (Files.isRegularFile(fileStorageService.locate("photos/" + variant))) {
+                serveFile("photos", variant, request, response);
+                return;
+            }
+            thumbnailService.generateVariantsAsync("photos/" + filename);
+        }
+        serveFile("photos", filename, request, response);
     }
 
     @GetMapping("/debug/files")
     public ResponseEntity<String> debugFiles() {
         try {
-            Path uploadsPath = Paths.get(uploadDir);
+            Path uploadsPath = fileStorageService.getStorageLocation();
             StringBuilder debug = new StringBuilder();
-            debug.append("Upload directory: ").append(uploadsPath.toAbsolutePath()).append("\n");
-            debug.append("Directory exists: ").append(uploadsPath.toFile().exists()).append("\n");
-            
-            if (uploadsPath.toFile().exists()) {
-                debug.append("Contents:\n");
-                java.io.File[] files = uploadsPath.toFile().listFiles();
-                if (files != null) {
-                    for (java.io.File file : files) {
-                        debug.append("  ").append(file.getName()).append(" (").append(file.isDirectory() ? "dir" : "file").append(")\n");
-                        if (file.isDirectory()) {
-                            java.io.File[] subFiles = file.listFiles();
-                            if (subFiles != null) {
-                                for (java.io.File subFile : subFiles) {
-                                    debug.append("    ").append(subFile.getName()).append("\n");
-                                }
-                            }
+            debug.append("Upload directory: ").append(uploadsPath).append("\n");
+            debug.append("Directory exists: ").append(Files.isDirectory(uploadsPath)).append("\n");
+
+            if (Files.isDirectory(uploadsPath)) {
+                debug.append("Contents (first ").append(DEBUG_LISTING_LIMIT).append(" entries per directory):\n");
+                // Streams the directories instead of listFiles(), which loads every name of a huge directory at once
+                try (DirectoryStream<Path> entries = Files.newDirectoryStream(uploadsPath)) {
+                    for (Path entry : entries) {
+                        boolean directory = Files.isDirectory(entry);
+                        debug.append("  ").append(entry.getFileName()).append(" (").append(directory ? "dir" : "file").append(")\n");
+                        if (directory) {
+                            appendListing(debug, entry);
                         }
                     }
                 }
             }
-            
+
             return ResponseEntity.ok(debug.toString());
         } catch (Exception e) {
             return ResponseEntity.ok("Error: " + e.getMessage());
         }
     }
 
-    private ResponseEntity<Resource> serveFile(String subDir, String filename) {
+    private static void appendListing(StringBuilder debug, Path directory) throws IOException {
+        int listed = 0;
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                if (listed++ == DEBUG_LISTING_LIMIT) {
+                    debug.append("    ...\n");
+                    return;
+                }
+                debug.append("    ").append(entry.getFileName()).append(Files.isDirectory(entry) ? "/" : "").append("\n");
+            }
+        }
+    }
+
+    // Conditional GET (ETag / Last-Modified -> 304), byte ranges and zero-copy transfer are handled by FileResponseWriter
+    private void serveFile(String subDir, String filename, HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        Path filePath;
         try {
-            Path filePath = Paths.get(uploadDir, subDir, filename);
-            logger.info("Attempting to serve file: {} (absolute: {})", filePath, filePath.toAbsolutePath());
-            
-            Resource resource = new UrlResource(filePath.toUri());
+            // Sharded or (not yet migrated) flat location of the stored path
+            filePath = fileStorageService.locate(subDir + "/" + filename);
+        } catch (RuntimeException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        logger.debug("Serving file: {}", filePath);
 
-            if (resource.exists() && resource.isReadable()) {
-                logger.info("Successfully serving file: {}", filePath);
-                
-                // Determine content type
-                String contentType = determineContentType(filename);
-                
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(contentType))
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"")
-                        .header(HttpHeaders.CACHE_CONTROL, "max-age=3600")
-                        .body(resource);
-            } else {
-                logger.warn("File not found or not readable: {} (exists: {}, readable: {})", 
-                    filePath, resource.exists(), resource.isReadable());
-                return ResponseEntity.notFound().build();
-            }
-        } catch (MalformedURLException e) {
-            logger.error("Error serving file: {}/{}", subDir, filename, e);
-            return ResponseEntity.badRequest().build();
-        } catch (Exception e) {
-            logger.error("Unexpected error serving file: {}/{}", subDir, filename, e);
-            return ResponseEntity.internalServerError().build();
+        boolean served = fileResponseWriter.write(request, response, filePath, determineContentType(filename),
+                "inline; filename=\"" + filename + "\"", "max-age=3600");
+        if (!served) {
+            logger.warn("File not found or not readable: {}", filePath);
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
         }
     }
 
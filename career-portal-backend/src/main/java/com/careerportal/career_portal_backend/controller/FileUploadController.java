@@ -1,6 +1,8 @@
 package com.careerportal.career_portal_backend.controller;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.careerportal.career_portal_backend.execption.BadRequestException;
+import com.careerportal.career_portal_backend.service.FileStorageService;
+import com.careerportal.career_portal_backend.service.ThumbnailService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -8,14 +10,8 @@ import org.springframework.web.multipart.MultipartFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/files")
@@ -24,8 +20,13 @@ public class FileUploadController {
 
     private static final Logger logger = LoggerFactory.getLogger(FileUploadController.class);
     
-    @Value("${file.upload.dir:uploads}")
-    private String uploadDir;
+    private final FileStorageService fileStorageService;
+    private final ThumbnailService thumbnailService;
+
+    public FileUploadController(FileStorageService fileStorageService, ThumbnailService thumbnailService) {
+        this.fileStorageService = fileStorageService;
+        this.thumbnailService = thumbnailService;
+    }
 
     @PostMapping("/upload/resume")
     public ResponseEntity<Map<String, String>> uploadResume(@RequestParam("file") MultipartFile file) {
@@ -36,7 +37,14 @@ public class FileUploadController {
     @PostMapping("/upload/photo")
     public ResponseEntity<Map<String, String>> uploadPhoto(@RequestParam("file") MultipartFile file) {
         logger.info("Received photo upload request for file: {}", file.getOriginalFilename());
-        return uploadFile(file, "photos", new String[]{"jpg", "jpeg", "png", "gif"});
+        ResponseEntity<Map<String, String>> response = uploadFile(file, "photos", new String[]{"jpg", "jpeg", "png", "gif"});
+
+        // Pre-size the photo (64px / 256px) in the background so list pages can load small variants
+        String filePath = response.getBody() != null ? response.getBody().get("filePath") : null;
+        if (filePath != null) {
+            thumbnailService.generateVariantsAsync(filePath);
+        }
+        return response;
     }
 
     private ResponseEntity<Map<String, String>> uploadFile(MultipartFile file, String subDir, String[] allowedExtensions) {
@@ -69,18 +77,8 @@ public class FileUploadController {
                 return ResponseEntity.badRequest().body(response);
             }
 
-            // Create upload directory if it doesn't exist
-            Path uploadPath = Paths.get(uploadDir, subDir);
-            Files.createDirectories(uploadPath);
-
-            // Generate unique filename
-            String uniqueFilename = UUID.randomUUID().toString() + "." + fileExtension;
-            Path filePath = uploadPath.resolve(uniqueFilename);
-
-            // Copy file to the target location
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-            String relativePath = subDir + "/" + uniqueFilename;
+            // Store the file (content addressed: a re-upload of the same file reuses the stored blob)
+            String relativePath = fileStorageService.storeFile(file, subDir);
             response.put("filePath", relativePath);
             response.put("originalName", originalFilename);
             response.put("message", "File uploaded successfully");
@@ -88,7 +86,10 @@ public class FileUploadController {
             logger.info("File uploaded successfully: {}", relativePath);
             return ResponseEntity.ok(response);
 
-        } catch (IOException e) {
+        } catch (BadRequestException e) {
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (RuntimeException e) {
             logger.error("Error uploading file", e);
             response.put("error", "Failed to upload file: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
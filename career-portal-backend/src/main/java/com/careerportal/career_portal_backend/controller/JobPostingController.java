@@ -1,18 +1,28 @@
 package com.careerportal.career_portal_backend.controller;
 
+import com.careerportal.career_portal_backend.payload.ImportResultDto;
 import com.careerportal.career_portal_backend.payload.JobPostingDto;
+import com.careerportal.career_portal_backend.payload.SuggestionDto;
 import com.careerportal.career_portal_backend.service.JobPostingService;
 import com.careerportal.career_portal_backend.service.ApplicationService;
+import com.careerportal.career_portal_backend.service.JobImportService;
+import com.careerportal.career_portal_backend.service.JsonResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -21,19 +31,31 @@ public class JobPostingController {
     private static final Logger logger = LoggerFactory.getLogger(JobPostingController.class);
     private final JobPostingService jobPostingService;
     private final ApplicationService applicationService;
+    private final JobImportService jobImportService;
+    private final JsonResponseCache jsonResponseCache;
+    private final CachedJsonWriter cachedJsonWriter;
 
-    public JobPostingController(JobPostingService jobPostingService, ApplicationService applicationService) {
+    public JobPostingController(JobPostingService jobPostingService, ApplicationService applicationService,
+                                JobImportService jobImportService, JsonResponseCache jsonResponseCache,
+                                CachedJsonWriter cachedJsonWriter) {
         this.jobPostingService = jobPostingService;
         this.applicationService = applicationService;
+        this.jobImportService = jobImportService;
+        this.jsonResponseCache = jsonResponseCache;
+        this.cachedJsonWriter = cachedJsonWriter;
     }
 
     // --- Debug endpoint to check if jobs are being created ---
     @GetMapping("/all")
-    public ResponseEntity<List<JobPostingDto>> getAllJobsDebug() {
+    public ResponseEntity<byte[]> getAllJobsDebug(
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            HttpServletRequest request) {
         logger.info("Fetching all job postings for debug");
-        List<JobPostingDto> jobs = jobPostingService.getAllJobPostings();
-        logger.info("Found {} job postings", jobs.size());
-        return ResponseEntity.ok(jobs);
+        JsonResponseCache.CachedJson jobs = jsonResponseCache.get(
+                JsonResponseCache.key(JsonResponseCache.JOBS, "all", page, size),
+                () -> jobPostingService.getAllJobPostings(page, size));
+        return cachedJsonWriter.toResponse(request, jobs);
     }
 
     // --- Secured Endpoint (Only EMPLOYER role can post) ---
@@ -59,16 +81,58 @@ public class JobPostingController {
         }
     }
 
+    // --- Bulk posting (Only EMPLOYER role); rows are inserted with JDBC batching ---
+    @PreAuthorize("hasRole('EMPLOYER')")
+    @PostMapping("/batch")
+    public ResponseEntity<List<JobPostingDto>> createJobsBatch(
+            @RequestBody List<JobPostingDto> jobPostingDtos,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        logger.info("Received batch of {} job postings from user: {}",
+                jobPostingDtos != null ? jobPostingDtos.size() : 0, userDetails.getUsername());
+        List<JobPostingDto> created = jobPostingService.createJobPostings(userDetails.getUsername(), jobPostingDtos);
+        return new ResponseEntity<>(created, HttpStatus.CREATED);
+    }
+
+    // --- Streaming CSV / NDJSON import (Only EMPLOYER role); invalid rows are reported, not fatal ---
+    @PreAuthorize("hasRole('EMPLOYER')")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResultDto> importJobs(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "format", required = false) String format,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+        ImportResultDto result = jobImportService.importJobPostings(userDetails.getUsername(), file, format);
+        return ResponseEntity.ok(result);
+    }
+
+    // Served as pre-serialized bytes from the response cache; a matching If-None-Match gets 304
     @GetMapping
-    public ResponseEntity<List<JobPostingDto>> searchJobs(
+    public ResponseEntity<byte[]> searchJobs(
             @RequestParam(value = "keyword", required = false) String keyword,
             @RequestParam(value = "location", required = false) String location,
-            @RequestParam(value = "experience", required = false) String experienceLevel) {
+            @RequestParam(value = "experience", required = false) String experienceLevel,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "sort", required = false) String sort, // e.g. "datePosted,desc" or "relevance" (default with a keyword); only datePosted,desc with "after"
+            @RequestParam(value = "after", required = false) String after, // keyset cursor from a previous page
+            @RequestParam(value = "facets", defaultValue = "false") boolean facets, // include filter chip counts
+            HttpServletRequest request) {
 
         // Use the search method with all optional parameters
-        List<JobPostingDto> jobList = jobPostingService.searchJobPostings(keyword, location, experienceLevel);
+        JsonResponseCache.CachedJson jobList = jsonResponseCache.get(
+                JsonResponseCache.key(JsonResponseCache.JOBS, "search", keyword, location, experienceLevel,
+                        page, size, sort, after, facets),
+                () -> jobPostingService.searchJobPostings(keyword, location, experienceLevel, page, size, sort, after, facets));
+
+        return cachedJsonWriter.toResponse(request, jobList);
+    }
+
+    // --- Typeahead suggestions for the search box (titles, skills, locations) ---
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @RequestParam(value = "prefix") String prefix,
+            @RequestParam(value = "limit", required = false) Integer limit) {
 
-        return ResponseEntity.ok(jobList);
+        return ResponseEntity.ok(jobPostingService.suggest(prefix, limit));
     }
 
     // --- Get job postings for the current employer ---
@@ -81,15 +145,12 @@ public class JobPostingController {
             
             List<JobPostingDto> jobs = jobPostingService.getJobPostingsByEmployer(userDetails.getUsername());
             
-            // Add application counts to each job
-            for (JobPostingDto job : jobs) {
-                try {
-                    Long applicationCount = applicationService.getApplicationCountForJob(job.getId());
-                    job.setApplicationCount(applicationCount);
-                    logger.debug("Job {} has {} applications", job.getId(), applicationCount);
-                } catch (Exception e) {
-                    logger.warn("Failed to get application count for job {}: {}", job.getId(), e.getMessage());
-                    job.setApplicationCount(0L);
+            // Application counts already come from the denormalized counter; otherwise load them in one grouped query
+            if (!applicationService.usesDenormalizedCounts() && !jobs.isEmpty()) {
+                Map<Long, Long> applicationCounts = applicationService.getApplicationCountsForJobs(
+                        jobs.stream().map(JobPostingDto::getId).collect(Collectors.toList()));
+                for (JobPostingDto job : jobs) {
+                    job.setApplicationCount(applicationCounts.getOrDefault(job.getId(), 0L));
                 }
             }
             
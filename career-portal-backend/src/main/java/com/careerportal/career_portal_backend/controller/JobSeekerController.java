@@ -1,16 +1,22 @@
 package com.careerportal.career_portal_backend.controller;
 
-import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.execption.BadRequestException;
 import com.careerportal.career_portal_backend.payload.JobSeekerDto;
+import com.careerportal.career_portal_backend.payload.PagedResponse;
 import com.careerportal.career_portal_backend.service.JobSeekerService;
+import com.careerportal.career_portal_backend.service.JsonResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/api/jobseekers")
@@ -18,42 +24,55 @@ public class JobSeekerController {
 
     private static final Logger logger = LoggerFactory.getLogger(JobSeekerController.class);
     private final JobSeekerService jobSeekerService;
+    private final JsonResponseCache jsonResponseCache;
+    private final CachedJsonWriter cachedJsonWriter;
 
-    public JobSeekerController(JobSeekerService jobSeekerService) {
+    public JobSeekerController(JobSeekerService jobSeekerService, JsonResponseCache jsonResponseCache,
+                               CachedJsonWriter cachedJsonWriter) {
         this.jobSeekerService = jobSeekerService;
+        this.jsonResponseCache = jsonResponseCache;
+        this.cachedJsonWriter = cachedJsonWriter;
     }
 
+    // Served as pre-serialized bytes from the response cache; a matching If-None-Match gets 304
     @GetMapping("/all")
-    public ResponseEntity<List<JobSeekerDto>> getAllJobSeekers() {
+    public ResponseEntity<byte[]> getAllJobSeekers(
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "email", required = false) String email,
+            @RequestParam(value = "skills", required = false) String skills,
+            @RequestParam(value = "status", required = false) String status, // FRESHER or EXPERIENCED
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            HttpServletRequest request) {
         try {
-            logger.info("Fetching all job seekers");
+            logger.info("Fetching job seekers page with filters - name: {}, email: {}, skills: {}, status: {}",
+                    name, email, skills, status);
             
-            List<JobSeekerProfile> jobSeekers = jobSeekerService.getAllJobSeekers();
-            List<JobSeekerDto> jobSeekerDtos = jobSeekers.stream()
-                    .map(this::mapToDto)
-                    .collect(Collectors.toList());
+            JsonResponseCache.CachedJson jobSeekers = jsonResponseCache.get(
+                    JsonResponseCache.key(JsonResponseCache.JOB_SEEKERS, "all", name, email, skills, status, page, size),
+                    () -> {
+                        Page<JobSeekerDto> found = jobSeekerService.getJobSeekers(name, email, skills, status, page, size);
+                        logger.info("Found {} job seekers", found.getNumberOfElements());
+                        return PagedResponse.fromPage(found, found.getContent());
+                    });
             
-            logger.info("Found {} job seekers", jobSeekerDtos.size());
-            return ResponseEntity.ok(jobSeekerDtos);
+            return cachedJsonWriter.toResponse(request, jobSeekers);
+        } catch (BadRequestException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error fetching job seekers", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
-    private JobSeekerDto mapToDto(JobSeekerProfile profile) {
-        JobSeekerDto dto = new JobSeekerDto();
-        dto.setId(profile.getId());
-        dto.setName(profile.getName());
-        dto.setEmail(profile.getEmail());
-        dto.setMobile(profile.getMobile());
-        dto.setStatus(profile.getStatus() != null ? profile.getStatus().toString() : null);
-        dto.setGender(profile.getGender() != null ? profile.getGender().toString() : null);
-        dto.setDob(profile.getDob());
-        dto.setEducation(profile.getEducation());
-        dto.setWorkExperience(profile.getWorkExperience());
-        dto.setSkills(profile.getSkills());
-        dto.setCreatedAt(profile.getCreatedAt());
-        return dto;
+    // Full export as a JSON array written incrementally to the response (flat heap regardless of table size).
+    // Employers only: it returns the whole directory in one request.
+    @GetMapping("/all/stream")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public void streamAllJobSeekers(HttpServletResponse response) throws IOException {
+        logger.info("Streaming all job seekers");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        jobSeekerService.streamAllJobSeekers(response.getOutputStream());
     }
-}
\ No newline at end of file
+}
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+        @Index(name = "idx_applications_resume_file_path", columnList = "resume_file_path")
+})
 public class Application {
 
     @Id
@@ -31,6 +33,7 @@ public class Application {
     
     // Resume storage
     private String resumeFileName; // Original filename
+    @Column(name = "resume_file_path")
     private String resumeFilePath; // Path where the file is stored
     private String resumeContentType; // MIME type (e.g., application/pdf)
     private Long resumeFileSize; // File size in bytes
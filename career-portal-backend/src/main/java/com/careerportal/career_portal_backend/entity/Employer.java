@@ -8,7 +8,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "employers")
+@Table(name = "employers", indexes = {
+        @Index(name = "idx_employers_industry", columnList = "industry"),
+        @Index(name = "idx_employers_founded", columnList = "founded")
+})
 public class Employer {
 
     @Id
@@ -33,6 +33,11 @@ public class JobPosting {
     private LocalDate datePosted = LocalDate.now();
     private Boolean isActive = true;
 
+    // Denormalized number of applications, maintained by an atomic UPDATE in ApplicationService.
+    // Not updatable through the entity so saving an edited posting never overwrites a concurrent increment.
+    @Column(name = "application_count", updatable = false)
+    private Long applicationCount = 0L;
+
     // One-to-Many relationship with applications for this job
     @OneToMany(mappedBy = "jobPosting", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Application> applications;
@@ -144,6 +149,14 @@ public class JobPosting {
 		this.isActive = isActive;
 	}
 
+	public Long getApplicationCount() {
+		return applicationCount;
+	}
+
+	public void setApplicationCount(Long applicationCount) {
+		this.applicationCount = applicationCount;
+	}
+
 	public List<Application> getApplications() {
 		return applications;
 	}
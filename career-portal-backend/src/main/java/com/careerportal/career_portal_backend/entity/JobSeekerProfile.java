@@ -8,7 +8,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "job_seeker_profiles")
+@Table(name = "job_seeker_profiles", indexes = {
+        @Index(name = "idx_job_seeker_profiles_resume_file_path", columnList = "resume_file_path"),
+        @Index(name = "idx_job_seeker_profiles_photo_file_path", columnList = "photo_file_path")
+})
 public class JobSeekerProfile {
 
     @Id
@@ -52,7 +55,9 @@ public class JobSeekerProfile {
     private String skills;
     
     // File uploads
+    @Column(name = "resume_file_path")
     private String resumeFilePath; // Path to the uploaded resume file
+    @Column(name = "photo_file_path")
     private String photoFilePath; // Path to the uploaded photo file
 
     // One-to-Many relationship with Education details (for detailed education records)
@@ -0,0 +1,86 @@
+package com.careerportal.career_portal_backend.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// One physical upload blob. Blobs are content addressed (path = <subdir>/<sha256>.<ext>), so identical uploads share a row.
+@Entity
+@Table(name = "stored_files", indexes = {
+        @Index(name = "idx_stored_files_unreferenced", columnList = "reference_count, created_at")
+})
+public class StoredFile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Relative path as stored in Application.resumeFilePath / JobSeekerProfile.resumeFilePath and photoFilePath
+    @Column(nullable = false, unique = true)
+    private String path;
+
+    @Column(length = 64, nullable = false)
+    private String sha256;
+
+    private Long fileSize;
+
+    // Number of rows pointing at this blob; maintained by FileStorageService and recounted at startup
+    @Column(name = "reference_count", nullable = false)
+    private Long referenceCount = 0L;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public StoredFile() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public Long getReferenceCount() {
+        return referenceCount;
+    }
+
+    public void setReferenceCount(Long referenceCount) {
+        this.referenceCount = referenceCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,14 @@
+package com.careerportal.career_portal_backend.execption;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// Tells Spring to respond with HTTP 400 (Bad Request) when this exception is thrown
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class BadRequestException extends RuntimeException {
+
+    // Simple constructor that accepts the custom error message
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
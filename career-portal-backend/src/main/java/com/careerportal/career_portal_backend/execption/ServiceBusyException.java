@@ -0,0 +1,14 @@
+package com.careerportal.career_portal_backend.execption;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// Tells Spring to respond with HTTP 503 (Service Unavailable) when a bounded worker pool refuses more work
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceBusyException extends RuntimeException {
+
+    // Simple constructor that accepts the custom error message
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,55 @@
+package com.careerportal.career_portal_backend.payload;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportResultDto {
+    private long totalRows;
+    private long imported;
+    private long failed;
+    private List<ImportRowErrorDto> errors = new ArrayList<>();
+    private boolean errorsTruncated; // true when more rows failed than are listed in errors
+
+    public ImportResultDto() {
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<ImportRowErrorDto> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ImportRowErrorDto> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+}
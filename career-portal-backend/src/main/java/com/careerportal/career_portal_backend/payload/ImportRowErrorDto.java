@@ -0,0 +1,30 @@
+package com.careerportal.career_portal_backend.payload;
+
+public class ImportRowErrorDto {
+    private long line; // line of the upload where the rejected row starts
+    private String message;
+
+    public ImportRowErrorDto() {
+    }
+
+    public ImportRowErrorDto(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
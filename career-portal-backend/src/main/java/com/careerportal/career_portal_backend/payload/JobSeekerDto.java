@@ -1,5 +1,7 @@
 package com.careerportal.career_portal_backend.payload;
 
+import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -20,6 +22,23 @@ public class JobSeekerDto {
     public JobSeekerDto() {
     }
 
+    // Used by the JPQL constructor expressions in JobSeekerProfileRepository, so no entity is ever materialized
+    public JobSeekerDto(Long id, String name, String email, String mobile,
+                        JobSeekerProfile.ExperienceStatus status, JobSeekerProfile.Gender gender, LocalDate dob,
+                        String education, String workExperience, String skills, LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.mobile = mobile;
+        this.status = status != null ? status.toString() : null;
+        this.gender = gender != null ? gender.toString() : null;
+        this.dob = dob;
+        this.education = education;
+        this.workExperience = workExperience;
+        this.skills = skills;
+        this.createdAt = createdAt;
+    }
+
     public Long getId() {
         return id;
     }
@@ -0,0 +1,40 @@
+package com.careerportal.career_portal_backend.payload;
+
+public class SuggestionDto {
+    private String text;
+    private String type; // TITLE, SKILL or LOCATION
+    private long count; // number of active job postings using this text
+
+    public SuggestionDto() {
+    }
+
+    public SuggestionDto(String text, String type, long count) {
+        this.text = text;
+        this.type = type;
+        this.count = count;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
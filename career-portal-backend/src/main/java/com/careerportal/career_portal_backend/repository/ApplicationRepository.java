@@ -1,17 +1,34 @@
 package com.careerportal.career_portal_backend.repository;
 
 import com.careerportal.career_portal_backend.entity.Application;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
-    // Find all applications submitted for a specific job post
+    // Find all applications submitted for a specific job post.
+    // The entity graph joins the job, its employer and the applicant so mapping to DTOs needs no extra SELECTs.
+    @EntityGraph(attributePaths = {"jobPosting", "jobPosting.employer", "jobSeekerProfile"})
     List<Application> findByJobPosting_Id(Long jobId);
 
-    // Find all applications submitted by a specific job seeker
+    // Find all applications submitted by a specific job seeker (same fetch plan as above)
+    @EntityGraph(attributePaths = {"jobPosting", "jobPosting.employer", "jobSeekerProfile"})
     List<Application> findByJobSeekerProfile_Id(Long seekerId);
 
+    // Find one application together with everything the ownership check and the DTO mapping touch
+    @EntityGraph(attributePaths = {"jobPosting", "jobPosting.employer", "jobPosting.employer.user", "jobSeekerProfile"})
+    Optional<Application> findDetailedById(Long applicationId);
+
     // Count applications for a specific job posting
     Long countByJobPosting_Id(Long jobId);
+
+    // Count applications for many job postings in one grouped query: each row is [jobPostingId, count]
+    @Query("SELECT a.jobPosting.id, COUNT(a) FROM Application a WHERE a.jobPosting.id IN :jobIds GROUP BY a.jobPosting.id")
+    List<Object[]> countGroupedByJobPostingIds(@Param("jobIds") Collection<Long> jobIds);
 }
\ No newline at end of file
@@ -2,13 +2,18 @@ package com.careerportal.career_portal_backend.repository;
 
 import com.careerportal.career_portal_backend.entity.Employer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import java.util.Optional;
 
-public interface EmployerRepository extends JpaRepository<Employer, Long> {
+public interface EmployerRepository extends JpaRepository<Employer, Long>,
+        JpaSpecificationExecutor<Employer> {
 
     // Find the employer profile by the linked User's ID
     Optional<Employer> findByUser_Id(Long userId);
+
+    // Find the employer profile by the linked User's username (single query joining users)
+    Optional<Employer> findByUser_Username(String username);
     
     // Check if company name already exists
     Boolean existsByCompanyName(String companyName);
@@ -0,0 +1,87 @@
+package com.careerportal.career_portal_backend.repository;
+
+import com.careerportal.career_portal_backend.entity.JobPosting;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts many job postings with JDBC batching.
+ * JobPosting ids use IDENTITY generation, which makes Hibernate insert rows one statement at a time
+ * (hibernate.jdbc.batch_size does not apply to them), so bulk inserts go through JdbcTemplate instead.
+ * With rewriteBatchedStatements=true the MySQL driver sends each chunk as one multi-row INSERT.
+ */
+@Repository
+public class JobPostingBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO job_postings (employer_id, job_title, job_position, description, "
+            + "required_skills, location, experience_level, functional_area, industry, salary_details, "
+            + "date_posted, is_active, application_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    public JobPostingBatchRepository(JdbcTemplate jdbcTemplate,
+                                     @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /** Inserts the postings in chunks of the configured batch size and sets the generated ids on them */
+    public void insertAll(List<JobPosting> jobs) {
+        for (int from = 0; from < jobs.size(); from += chunkSize) {
+            insertChunk(jobs.subList(from, Math.min(from + chunkSize, jobs.size())));
+        }
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    private void insertChunk(List<JobPosting> chunk) {
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        JobPosting job = chunk.get(i);
+                        ps.setLong(1, job.getEmployer().getId());
+                        ps.setString(2, job.getJobTitle());
+                        ps.setString(3, job.getJobPosition());
+                        ps.setString(4, job.getDescription());
+                        ps.setString(5, job.getRequiredSkills());
+                        ps.setString(6, job.getLocation());
+                        ps.setString(7, job.getExperienceLevel());
+                        ps.setString(8, job.getFunctionalArea());
+                        ps.setString(9, job.getIndustry());
+                        ps.setString(10, job.getSalaryDetails());
+                        ps.setDate(11, job.getDatePosted() != null ? Date.valueOf(job.getDatePosted()) : null);
+                        ps.setBoolean(12, !Boolean.FALSE.equals(job.getIsActive()));
+                        ps.setLong(13, 0L);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder);
+
+        // Generated keys come back in insert order
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < chunk.size() && i < keys.size(); i++) {
+            Object key = keys.get(i).values().iterator().next();
+            chunk.get(i).setId(((Number) key).longValue());
+        }
+    }
+}
@@ -4,9 +4,23 @@ import com.careerportal.career_portal_backend.entity.JobPosting;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface JobPostingRepository extends JpaRepository<JobPosting, Long>,
         JpaSpecificationExecutor<JobPosting> {
 
     List<JobPosting> findByEmployer_Id(Long employerId);
+
+    // Atomically bump the denormalized application counter
+    @Modifying
+    @Query("UPDATE JobPosting j SET j.applicationCount = COALESCE(j.applicationCount, 0) + 1 WHERE j.id = :jobId")
+    int incrementApplicationCount(@Param("jobId") Long jobId);
+
+    // Fill the counter for rows created before the column existed
+    @Modifying
+    @Query("UPDATE JobPosting j SET j.applicationCount = (SELECT COUNT(a) FROM Application a WHERE a.jobPosting = j) "
+            + "WHERE j.applicationCount IS NULL")
+    int backfillApplicationCounts();
 }
\ No newline at end of file
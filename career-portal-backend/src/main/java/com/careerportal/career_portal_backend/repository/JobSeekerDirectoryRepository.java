@@ -0,0 +1,49 @@
+package com.careerportal.career_portal_backend.repository;
+
+import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.payload.JobSeekerDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Keyset-paged reads of the job seeker directory for the streaming export.
+ * Goes through JdbcTemplate rather than JPA so that, outside a transaction, every chunk borrows a pooled
+ * connection and returns it as soon as the rows are read. A request-scoped EntityManager (open-in-view)
+ * would otherwise keep its connection until the whole response has been written to the client.
+ */
+@Repository
+public class JobSeekerDirectoryRepository {
+
+    private static final String SELECT_AFTER_SQL = "SELECT id, name, email, mobile, status, gender, dob, education, "
+            + "work_experience, skills, created_at FROM job_seeker_profiles WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final RowMapper<JobSeekerDto> ROW_MAPPER = (rs, rowNum) -> {
+        String status = rs.getString("status");
+        String gender = rs.getString("gender");
+        Date dob = rs.getDate("dob");
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new JobSeekerDto(rs.getLong("id"), rs.getString("name"), rs.getString("email"),
+                rs.getString("mobile"),
+                status != null ? JobSeekerProfile.ExperienceStatus.valueOf(status) : null,
+                gender != null ? JobSeekerProfile.Gender.valueOf(gender) : null,
+                dob != null ? dob.toLocalDate() : null,
+                rs.getString("education"), rs.getString("work_experience"), rs.getString("skills"),
+                createdAt != null ? createdAt.toLocalDateTime() : null);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobSeekerDirectoryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Up to limit job seekers with an id greater than afterId, in id order */
+    public List<JobSeekerDto> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_AFTER_SQL, ROW_MAPPER, afterId, limit);
+    }
+}
@@ -1,11 +1,37 @@
 package com.careerportal.career_portal_backend.repository;
 import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.payload.JobSeekerDto;
+import com.careerportal.career_portal_backend.specifications.LikePatterns;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface JobSeekerProfileRepository extends JpaRepository<JobSeekerProfile, Long> {
 
+    String DIRECTORY_PROJECTION = "SELECT new com.careerportal.career_portal_backend.payload.JobSeekerDto("
+            + "p.id, p.name, p.email, p.mobile, p.status, p.gender, p.dob, "
+            + "p.education, p.workExperience, p.skills, p.createdAt) FROM JobSeekerProfile p";
+
+    // Optional directory filters: a null parameter disables its condition. The text parameters are
+    // lower-cased LIKE patterns built with LikePatterns.
+    String DIRECTORY_FILTER = " WHERE (:name IS NULL OR LOWER(p.name) LIKE :name ESCAPE '" + LikePatterns.ESCAPE + "')"
+            + " AND (:email IS NULL OR LOWER(p.email) LIKE :email ESCAPE '" + LikePatterns.ESCAPE + "')"
+            + " AND (:skills IS NULL OR LOWER(p.skills) LIKE :skills ESCAPE '" + LikePatterns.ESCAPE + "')"
+            + " AND (:status IS NULL OR p.status = :status)";
+
     // Use JPA property expression to find the profile by the linked User's ID
     Optional<JobSeekerProfile> findByUser_Id(Long userId);
-}
\ No newline at end of file
+
+    // One page of the public directory, filtered in the database and projected straight into DTOs
+    @Query(value = DIRECTORY_PROJECTION + DIRECTORY_FILTER,
+            countQuery = "SELECT COUNT(p) FROM JobSeekerProfile p" + DIRECTORY_FILTER)
+    Page<JobSeekerDto> findDirectoryPage(@Param("name") String namePattern,
+                                         @Param("email") String emailPattern,
+                                         @Param("skills") String skillsPattern,
+                                         @Param("status") JobSeekerProfile.ExperienceStatus status,
+                                         Pageable pageable);
+}
@@ -0,0 +1,58 @@
+package com.careerportal.career_portal_backend.repository;
+
+import com.careerportal.career_portal_backend.entity.StoredFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    Optional<StoredFile> findByPath(String path);
+
+    // created_at is (re)set by every upload of the content, so the sweep's grace period counts from the latest one
+    String REGISTER_SQL = "INSERT INTO stored_files (path, sha256, file_size, reference_count, created_at) "
+            + "VALUES (:path, :sha256, :fileSize, 0, NOW()) ON DUPLICATE KEY UPDATE created_at = NOW()";
+
+    // Registers a blob once; a re-upload of the same content hits the unique key and only refreshes created_at
+    @Modifying
+    @Query(value = REGISTER_SQL, nativeQuery = true)
+    int registerIfAbsent(@Param("path") String path, @Param("sha256") String sha256, @Param("fileSize") Long fileSize);
+
+    // The same registration committed on its own, for a blob written by a transaction that then rolled back
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = REGISTER_SQL, nativeQuery = true)
+    int registerOrphan(@Param("path") String path, @Param("sha256") String sha256, @Param("fileSize") Long fileSize);
+
+    @Modifying
+    @Query("UPDATE StoredFile s SET s.referenceCount = s.referenceCount + 1 WHERE s.path = :path")
+    int incrementReferences(@Param("path") String path);
+
+    @Modifying
+    @Query("UPDATE StoredFile s SET s.referenceCount = s.referenceCount - 1 WHERE s.path = :path AND s.referenceCount > 0")
+    int decrementReferences(@Param("path") String path);
+
+    // Recomputes every counter from the columns that hold stored paths (the source of truth)
+    @Modifying
+    @Query("UPDATE StoredFile s SET s.referenceCount = "
+            + "(SELECT COUNT(a) FROM Application a WHERE a.resumeFilePath = s.path) "
+            + "+ (SELECT COUNT(p) FROM JobSeekerProfile p WHERE p.resumeFilePath = s.path) "
+            + "+ (SELECT COUNT(q) FROM JobSeekerProfile q WHERE q.photoFilePath = s.path)")
+    int recountReferences();
+
+    // Blobs nobody points at any more; the cutoff leaves freshly uploaded files alone until they are referenced
+    List<StoredFile> findTop500ByReferenceCountAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+            Long referenceCount, LocalDateTime cutoff, Long afterId);
+
+    // Re-checks both conditions: the blob may have been referenced or re-uploaded since it was selected
+    @Modifying
+    @Query("DELETE FROM StoredFile s WHERE s.id = :id AND s.referenceCount = 0 AND s.createdAt < :cutoff")
+    int deleteIfUnreferenced(@Param("id") Long id, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,717 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.entity.JobPosting;
+import com.careerportal.career_portal_backend.payload.SuggestionDto;
+import com.careerportal.career_portal_backend.repository.JobPostingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * In-memory inverted index over the active job postings used by keyword search.
+ * Every job gets a dense ordinal, and each term maps to a bitset of the ordinals containing it,
+ * so a multi-term query is a bitset intersection instead of a LIKE '%keyword%' table scan.
+ * Unlike the substring LIKE it replaced, query terms match whole words (see JobTextAnalyzer), except the last
+ * one, which also matches as a prefix: "java" still finds "javascript", but "java developer" does not, and
+ * "script" never matches "javascript".
+ * Matches can also be ranked with BM25 over title, skills and description plus a recency boost.
+ * Inactive postings are not indexed: they never match, and leaving them out keeps the BM25 statistics
+ * (document count, document frequencies, average field lengths) those of the searchable documents.
+ */
+@Component
+public class JobSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchIndex.class);
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    // Standard BM25 parameters: term frequency saturation and length normalization
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    @Value("${app.search.boost.title:3.0}")
+    private double titleBoost;
+
+    @Value("${app.search.boost.skills:2.0}")
+    private double skillsBoost;
+
+    @Value("${app.search.boost.description:1.0}")
+    private double descriptionBoost;
+
+    // Brand-new postings score up to (1 + recencyBoost) times higher; the bonus halves every half-life
+    @Value("${app.search.recency-boost:0.5}")
+    private double recencyBoost;
+
+    @Value("${app.search.recency-half-life-days:30}")
+    private double recencyHalfLifeDays;
+
+    private final JobPostingRepository jobPostingRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // The live index, replaced as a whole when a rebuild completes (guarded by lock)
+    private Segment segment = new Segment();
+    // index()/remove() calls made while a rebuild is loading from the database, replayed onto the
+    // rebuilt segment before it is swapped in; null when no rebuild is running (guarded by lock)
+    private List<Consumer<Segment>> pendingMutations;
+
+    private volatile boolean ready = false;
+
+    public JobSearchIndex(JobPostingRepository jobPostingRepository) {
+        this.jobPostingRepository = jobPostingRepository;
+    }
+
+    /**
+     * Rebuilds the whole index from the database once the application has started.
+     * The new segment is built off to the side while searches keep using the current one; mutations made
+     * during the load are replayed onto it and it is swapped in atomically, so no update is lost.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            if (pendingMutations != null) {
+                logger.warn("Job search index rebuild already in progress");
+                return;
+            }
+            pendingMutations = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment rebuilt = new Segment();
+        boolean loaded = false;
+        try {
+            // Page through the table so the entities of one batch can be collected before the next is loaded
+            Page<JobPosting> page;
+            int pageNumber = 0;
+            do {
+                page = jobPostingRepository.findAll(PageRequest.of(pageNumber++, REBUILD_BATCH_SIZE, Sort.by("id")));
+                for (JobPosting job : page.getContent()) {
+                    rebuilt.replace(new IndexedJob(job));
+                }
+            } while (page.hasNext());
+            loaded = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (loaded) {
+                    // Replaying is safe even when the load already saw a change: replace and remove are idempotent
+                    for (Consumer<Segment> mutation : pendingMutations) {
+                        mutation.accept(rebuilt);
+                    }
+                    segment = rebuilt;
+                    ready = true;
+                }
+                pendingMutations = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        logger.info("Job search index built with {} postings and {} terms in {} ms",
+                rebuilt.ordinals.size(), rebuilt.postings.size(), System.currentTimeMillis() - start);
+    }
+
+    /** True once the startup rebuild has completed; callers fall back to the database until then */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** Adds a job to the index, replacing any previously indexed version (an inactive job is only removed) */
+    public void index(JobPosting job) {
+        if (job == null || job.getId() == null) {
+            return;
+        }
+        IndexedJob document = new IndexedJob(job);
+        apply(target -> target.replace(document));
+    }
+
+    /** Removes a job from the index */
+    public void remove(Long jobId) {
+        if (jobId == null) {
+            return;
+        }
+        apply(target -> target.remove(jobId));
+    }
+
+    private void apply(Consumer<Segment> mutation) {
+        lock.writeLock().lock();
+        try {
+            mutation.accept(segment);
+            if (pendingMutations != null) {
+                pendingMutations.add(mutation);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids (ascending) of active jobs containing every term of the keyword,
+     * optionally narrowed by location (substring) and experience level (exact); both ignore case like the
+     * MySQL collation the JobSpecification fallback runs under.
+     */
+    public List<Long> search(String keyword, String location, String experienceLevel) {
+        QueryTerms query = QueryTerms.parse(keyword);
+        String locationFilter = JobTextAnalyzer.normalize(location);
+        String experienceFilter = JobTextAnalyzer.normalize(experienceLevel);
+        List<Long> ids = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = segment.match(query);
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                IndexedJob document = segment.documents.get(ordinal);
+                if (document.matches(locationFilter, experienceFilter)) {
+                    ids.add(document.id);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        ids.sort(null);
+        return ids;
+    }
+
+    /**
+     * Ranks the matching active jobs by BM25 score (with field boosts and recency decay) and returns
+     * the best {@code limit} ids, best first. Only a bounded heap of size limit is kept, never the full match set.
+     */
+    public SearchHits rank(String keyword, String location, String experienceLevel, int limit) {
+        QueryTerms query = QueryTerms.parse(keyword);
+        String locationFilter = JobTextAnalyzer.normalize(location);
+        String experienceFilter = JobTextAnalyzer.normalize(experienceLevel);
+        LocalDate today = LocalDate.now();
+
+        // Min-heap on score: the root is the weakest of the current top-k and is evicted first
+        PriorityQueue<ScoredJob> heap = new PriorityQueue<>(Comparator.comparingDouble((ScoredJob hit) -> hit.score)
+                .thenComparingLong(hit -> hit.id));
+        int totalHits = 0;
+
+        lock.readLock().lock();
+        try {
+            Segment current = segment;
+            BitSet matches = current.match(query);
+            if (matches.isEmpty() || limit <= 0) {
+                return new SearchHits(new ArrayList<>(), 0);
+            }
+
+            // Only active postings are indexed, so this is the live document count BM25 expects
+            int documentCount = current.ordinals.size();
+            Map<String, Double> idf = new HashMap<>();
+            for (String term : query.exact) {
+                idf.put(term, current.idf(term, documentCount));
+            }
+            List<String> expansions = query.prefix != null ? current.expansions(query.prefix) : List.of();
+            for (String term : expansions) {
+                idf.put(term, current.idf(term, documentCount));
+            }
+            double[] avgLengths = {
+                    Math.max(1.0, (double) current.totalTitleLength / documentCount),
+                    Math.max(1.0, (double) current.totalSkillsLength / documentCount),
+                    Math.max(1.0, (double) current.totalDescriptionLength / documentCount)
+            };
+
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                IndexedJob document = current.documents.get(ordinal);
+                if (!document.matches(locationFilter, experienceFilter)) {
+                    continue;
+                }
+                totalHits++;
+
+                double score = 0;
+                for (String term : query.exact) {
+                    score += termScore(document, term, idf.get(term), avgLengths);
+                }
+                if (query.prefix != null) {
+                    // The prefix counts once, with its best-scoring completion in this document
+                    double best = 0;
+                    Collection<String> candidates = expansions.size() <= document.terms.size() ? expansions : document.terms;
+                    for (String term : candidates) {
+                        if (term.startsWith(query.prefix) && document.terms.contains(term)) {
+                            best = Math.max(best, termScore(document, term, idf.get(term), avgLengths));
+                        }
+                    }
+                    score += best;
+                }
+                score *= recencyFactor(document.datePosted, today);
+
+                ScoredJob hit = new ScoredJob(document.id, score);
+                if (heap.size() < limit) {
+                    heap.add(hit);
+                } else if (heap.comparator().compare(hit, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.add(hit);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // Drain the min-heap and reverse so the best hit comes first
+        List<Long> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll().id);
+        }
+        Collections.reverse(ranked);
+        return new SearchHits(ranked, totalHits);
+    }
+
+    /**
+     * Returns one page of the matching active jobs in the given order, plus the total number of matches.
+     * Strings sort case-insensitively and missing values first in ascending order (as MySQL does); ties are
+     * broken by id in the same direction. Only a bounded heap of offset + limit entries is kept.
+     */
+    public SearchHits page(String keyword, String location, String experienceLevel,
+                           SortField field, boolean ascending, int offset, int limit) {
+        Comparator<IndexedJob> order = field.comparator;
+        if (field != SortField.ID) {
+            order = order.thenComparing(SortField.ID.comparator);
+        }
+        if (!ascending) {
+            order = order.reversed();
+        }
+        return top(keyword, location, experienceLevel, null, order, offset, limit);
+    }
+
+    /**
+     * Keyset page for the newest-first order (datePosted DESC, id DESC): up to {@code limit} ids of matching
+     * active jobs strictly after the cursor row, so a deep page costs the same as the first one.
+     */
+    public List<Long> seek(String keyword, String location, String experienceLevel,
+                           LocalDate cursorDatePosted, long cursorId, int limit) {
+        Comparator<IndexedJob> newestFirst = SortField.DATE_POSTED.comparator
+                .thenComparing(SortField.ID.comparator).reversed();
+        return top(keyword, location, experienceLevel,
+                document -> document.datePosted != null && (document.datePosted.isBefore(cursorDatePosted)
+                        || (document.datePosted.isEqual(cursorDatePosted) && document.id < cursorId)),
+                newestFirst, 0, limit).getIds();
+    }
+
+    // Collects the first offset + limit matches in order with a bounded max-heap and returns the last limit of them
+    private SearchHits top(String keyword, String location, String experienceLevel, Predicate<IndexedJob> filter,
+                           Comparator<IndexedJob> order, int offset, int limit) {
+        QueryTerms query = QueryTerms.parse(keyword);
+        String locationFilter = JobTextAnalyzer.normalize(location);
+        String experienceFilter = JobTextAnalyzer.normalize(experienceLevel);
+        int keep = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        if (limit <= 0) {
+            return new SearchHits(new ArrayList<>(), 0);
+        }
+
+        // Root is the last entry of the current top list in the requested order and is evicted first
+        PriorityQueue<IndexedJob> heap = new PriorityQueue<>(order.reversed());
+        int totalHits = 0;
+
+        lock.readLock().lock();
+        try {
+            Segment current = segment;
+            BitSet matches = current.match(query);
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                IndexedJob document = current.documents.get(ordinal);
+                if (!document.matches(locationFilter, experienceFilter) || (filter != null && !filter.test(document))) {
+                    continue;
+                }
+                totalHits++;
+                if (heap.size() < keep) {
+                    heap.add(document);
+                } else if (order.compare(document, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(document);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> ordered = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ordered.add(heap.poll().id);
+        }
+        Collections.reverse(ordered);
+        int from = Math.min(offset, ordered.size());
+        return new SearchHits(new ArrayList<>(ordered.subList(from, ordered.size())), totalHits);
+    }
+
+    /**
+     * Counts the active jobs matching the query per location, experience level, industry and functional area
+     * in a single pass over the matching bitset. An empty keyword counts over all active jobs.
+     */
+    public Map<String, Map<String, Long>> facets(String keyword, String location, String experienceLevel) {
+        QueryTerms query = QueryTerms.parse(keyword);
+        String locationFilter = JobTextAnalyzer.normalize(location);
+        String experienceFilter = JobTextAnalyzer.normalize(experienceLevel);
+        Map<String, Long> locations = new HashMap<>();
+        Map<String, Long> experienceLevels = new HashMap<>();
+        Map<String, Long> industries = new HashMap<>();
+        Map<String, Long> functionalAreas = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = query.isEmpty() ? segment.activeDocuments : segment.match(query);
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                IndexedJob document = segment.documents.get(ordinal);
+                if (!document.matches(locationFilter, experienceFilter)) {
+                    continue;
+                }
+                countFacet(locations, document.displayLocation);
+                countFacet(experienceLevels, document.experienceLevel);
+                countFacet(industries, document.industry);
+                countFacet(functionalAreas, document.functionalArea);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("location", sortedByCount(locations));
+        facets.put("experienceLevel", sortedByCount(experienceLevels));
+        facets.put("industry", sortedByCount(industries));
+        facets.put("functionalArea", sortedByCount(functionalAreas));
+        return facets;
+    }
+
+    private static void countFacet(Map<String, Long> counts, String value) {
+        if (value != null && !value.isBlank()) {
+            counts.merge(value.trim(), 1L, Long::sum);
+        }
+    }
+
+    private static Map<String, Long> sortedByCount(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    /** Returns up to {@code limit} title, skill and location completions of the prefix, most used first */
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return segment.suggester.suggest(prefix, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Field-boosted BM25 contribution of one term; avgLengths holds the title, skills and description averages
+    private double termScore(IndexedJob document, String term, double idf, double[] avgLengths) {
+        return idf * (titleBoost * bm25(document.titleTerms, term, document.titleLength, avgLengths[0])
+                + skillsBoost * bm25(document.skillTerms, term, document.skillsLength, avgLengths[1])
+                + descriptionBoost * bm25(document.descriptionTerms, term, document.descriptionLength, avgLengths[2]));
+    }
+
+    private double bm25(Map<String, Integer> fieldTerms, String term, int fieldLength, double avgFieldLength) {
+        Integer frequency = fieldTerms.get(term);
+        if (frequency == null) {
+            return 0;
+        }
+        return frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * fieldLength / avgFieldLength));
+    }
+
+    private double recencyFactor(LocalDate datePosted, LocalDate today) {
+        if (datePosted == null) {
+            return 1.0;
+        }
+        long ageDays = Math.max(0, ChronoUnit.DAYS.between(datePosted, today));
+        return 1.0 + recencyBoost * Math.pow(0.5, ageDays / recencyHalfLifeDays);
+    }
+
+    /** Orders page() can sort by; the same columns the job search accepts in its sort parameter */
+    public enum SortField {
+        DATE_POSTED(Comparator.comparing((IndexedJob document) -> document.datePosted,
+                Comparator.nullsFirst(Comparator.naturalOrder()))),
+        JOB_TITLE(byText(document -> document.title)),
+        LOCATION(byText(document -> document.displayLocation)),
+        EXPERIENCE_LEVEL(byText(document -> document.experienceLevel)),
+        ID(Comparator.comparingLong((IndexedJob document) -> document.id));
+
+        private final Comparator<IndexedJob> comparator;
+
+        SortField(Comparator<IndexedJob> comparator) {
+            this.comparator = comparator;
+        }
+
+        private static Comparator<IndexedJob> byText(Function<IndexedJob, String> value) {
+            return Comparator.comparing(value, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER));
+        }
+    }
+
+    // Postings, documents and statistics of one generation of the index; not thread-safe on its own
+    private static final class Segment {
+        // term -> ordinals of the jobs containing it, sorted so prefix expansion is a range scan
+        private final TreeMap<String, BitSet> postings = new TreeMap<>();
+        // job id -> ordinal
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        // ordinal -> indexed job (null for free slots)
+        private final List<IndexedJob> documents = new ArrayList<>();
+        private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+        private final BitSet activeDocuments = new BitSet();
+        // Summed field lengths, for the average lengths BM25 normalizes against
+        private long totalTitleLength;
+        private long totalSkillsLength;
+        private long totalDescriptionLength;
+        // Typeahead dictionary over the titles, skills and locations of active postings
+        private final JobSuggester suggester = new JobSuggester();
+
+        private void replace(IndexedJob document) {
+            remove(document.id);
+            if (document.active) {
+                add(document);
+            }
+        }
+
+        // Intersects the posting lists of all terms (the prefix as the union of its completions), rarest first
+        // so the working set shrinks quickly
+        private BitSet match(QueryTerms query) {
+            if (query.isEmpty()) {
+                return new BitSet();
+            }
+            List<BitSet> lists = new ArrayList<>(query.exact.size() + 1);
+            for (String term : query.exact) {
+                BitSet list = postings.get(term);
+                if (list == null) {
+                    return new BitSet();
+                }
+                lists.add(list);
+            }
+            if (query.prefix != null) {
+                BitSet completions = new BitSet();
+                for (String term : expansions(query.prefix)) {
+                    completions.or(postings.get(term));
+                }
+                if (completions.isEmpty()) {
+                    return completions;
+                }
+                lists.add(completions);
+            }
+            lists.sort((a, b) -> Integer.compare(a.cardinality(), b.cardinality()));
+
+            BitSet result = (BitSet) activeDocuments.clone();
+            for (BitSet list : lists) {
+                result.and(list);
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        }
+
+        // Indexed terms starting with the prefix (the prefix itself included)
+        private List<String> expansions(String prefix) {
+            List<String> terms = new ArrayList<>();
+            for (String term : postings.tailMap(prefix, true).keySet()) {
+                if (!term.startsWith(prefix)) {
+                    break;
+                }
+                terms.add(term);
+            }
+            return terms;
+        }
+
+        private double idf(String term, int documentCount) {
+            BitSet list = postings.get(term);
+            int documentFrequency = list != null ? list.cardinality() : 0;
+            return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        }
+
+        private void add(IndexedJob document) {
+            int ordinal;
+            if (freeOrdinals.isEmpty()) {
+                ordinal = documents.size();
+                documents.add(document);
+            } else {
+                ordinal = freeOrdinals.pop();
+                documents.set(ordinal, document);
+            }
+            ordinals.put(document.id, ordinal);
+            activeDocuments.set(ordinal);
+            for (String term : document.terms) {
+                postings.computeIfAbsent(term, key -> new BitSet()).set(ordinal);
+            }
+            totalTitleLength += document.titleLength;
+            totalSkillsLength += document.skillsLength;
+            totalDescriptionLength += document.descriptionLength;
+            suggester.add(JobSuggester.Type.TITLE, document.title);
+            suggester.add(JobSuggester.Type.LOCATION, document.displayLocation);
+            for (String skill : document.skills) {
+                suggester.add(JobSuggester.Type.SKILL, skill);
+            }
+        }
+
+        private void remove(Long jobId) {
+            Integer ordinal = ordinals.remove(jobId);
+            if (ordinal == null) {
+                return;
+            }
+            IndexedJob document = documents.get(ordinal);
+            for (String term : document.terms) {
+                BitSet list = postings.get(term);
+                if (list != null) {
+                    list.clear(ordinal);
+                    if (list.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            activeDocuments.clear(ordinal);
+            totalTitleLength -= document.titleLength;
+            totalSkillsLength -= document.skillsLength;
+            totalDescriptionLength -= document.descriptionLength;
+            suggester.remove(JobSuggester.Type.TITLE, document.title);
+            suggester.remove(JobSuggester.Type.LOCATION, document.displayLocation);
+            for (String skill : document.skills) {
+                suggester.remove(JobSuggester.Type.SKILL, skill);
+            }
+            documents.set(ordinal, null);
+            freeOrdinals.push(ordinal);
+        }
+    }
+
+    /**
+     * A keyword query: every term must occur in the posting as a whole word, except the last one, which also
+     * matches as a prefix ("senior dev" finds "senior developer") so results keep up while the user types.
+     * A one-character last term stays exact; expanding it would match most of the index.
+     */
+    private static final class QueryTerms {
+        private static final int MIN_PREFIX_LENGTH = 2;
+
+        private final Set<String> exact = new LinkedHashSet<>();
+        private final String prefix;
+
+        private QueryTerms(List<String> tokens) {
+            String last = tokens.isEmpty() ? null : tokens.get(tokens.size() - 1);
+            if (last != null && last.length() >= MIN_PREFIX_LENGTH) {
+                exact.addAll(tokens.subList(0, tokens.size() - 1));
+                this.prefix = last;
+            } else {
+                exact.addAll(tokens);
+                this.prefix = null;
+            }
+        }
+
+        private static QueryTerms parse(String keyword) {
+            return new QueryTerms(JobTextAnalyzer.tokenize(keyword));
+        }
+
+        private boolean isEmpty() {
+            return exact.isEmpty() && prefix == null;
+        }
+    }
+
+    // Snapshot of the searchable fields of one job posting
+    private static final class IndexedJob {
+        private final Long id;
+        private final String location;
+        private final String experienceLevel;
+        private final String experienceKey; // normalized for filtering
+        private final boolean active;
+        private final LocalDate datePosted;
+        private final Set<String> terms = new HashSet<>();
+        // Original text used for typeahead suggestions
+        private final String title;
+        private final String displayLocation;
+        // Facet values
+        private final String industry;
+        private final String functionalArea;
+        private final List<String> skills = new ArrayList<>();
+        // Per-field term frequencies and lengths (in terms) for BM25
+        private final Map<String, Integer> titleTerms;
+        private final Map<String, Integer> skillTerms;
+        private final Map<String, Integer> descriptionTerms;
+        private final int titleLength;
+        private final int skillsLength;
+        private final int descriptionLength;
+
+        private IndexedJob(JobPosting job) {
+            this.id = job.getId();
+            this.location = JobTextAnalyzer.normalize(job.getLocation());
+            this.experienceLevel = job.getExperienceLevel();
+            this.experienceKey = JobTextAnalyzer.normalize(job.getExperienceLevel());
+            this.active = Boolean.TRUE.equals(job.getIsActive());
+            this.datePosted = job.getDatePosted();
+            this.title = job.getJobTitle();
+            this.displayLocation = job.getLocation();
+            this.industry = job.getIndustry();
+            this.functionalArea = job.getFunctionalArea();
+            if (job.getRequiredSkills() != null) {
+                for (String skill : job.getRequiredSkills().split(",")) {
+                    if (!skill.isBlank()) {
+                        skills.add(skill.trim());
+                    }
+                }
+            }
+
+            List<String> titleTokens = JobTextAnalyzer.tokenize(job.getJobTitle());
+            List<String> skillTokens = JobTextAnalyzer.tokenizeSkills(job.getRequiredSkills());
+            List<String> descriptionTokens = JobTextAnalyzer.tokenize(job.getDescription());
+            this.titleTerms = termFrequencies(titleTokens);
+            this.skillTerms = termFrequencies(skillTokens);
+            this.descriptionTerms = termFrequencies(descriptionTokens);
+            this.titleLength = titleTokens.size();
+            this.skillsLength = skillTokens.size();
+            this.descriptionLength = descriptionTokens.size();
+
+            terms.addAll(titleTerms.keySet());
+            terms.addAll(skillTerms.keySet());
+            terms.addAll(descriptionTerms.keySet());
+        }
+
+        private static Map<String, Integer> termFrequencies(List<String> tokens) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String token : tokens) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+            return frequencies;
+        }
+
+        private boolean matches(String locationFilter, String experienceFilter) {
+            if (StringUtils.hasText(locationFilter) && (location == null || !location.contains(locationFilter))) {
+                return false;
+            }
+            return !StringUtils.hasText(experienceFilter) || experienceFilter.equals(experienceKey);
+        }
+    }
+
+    private static final class ScoredJob {
+        private final Long id;
+        private final double score;
+
+        private ScoredJob(Long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.payload.SuggestionDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Prefix dictionary of job titles, skills and locations with the number of active postings using each one.
+ * Entries are kept in sorted maps so a prefix lookup is a range scan starting at the prefix.
+ * Not thread-safe on its own: JobSearchIndex guards it with its read/write lock.
+ */
+class JobSuggester {
+
+    enum Type { TITLE, SKILL, LOCATION }
+
+    private final Map<Type, TreeMap<String, Entry>> dictionaries = new EnumMap<>(Type.class);
+
+    JobSuggester() {
+        for (Type type : Type.values()) {
+            dictionaries.put(type, new TreeMap<>());
+        }
+    }
+
+    void add(Type type, String text) {
+        String key = JobTextAnalyzer.normalize(text);
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        dictionaries.get(type).computeIfAbsent(key, k -> new Entry(text.trim())).count++;
+    }
+
+    void remove(Type type, String text) {
+        String key = JobTextAnalyzer.normalize(text);
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        TreeMap<String, Entry> dictionary = dictionaries.get(type);
+        Entry entry = dictionary.get(key);
+        if (entry != null && --entry.count <= 0) {
+            dictionary.remove(key);
+        }
+    }
+
+    void clear() {
+        dictionaries.values().forEach(Map::clear);
+    }
+
+    /** Returns the most frequent completions of the prefix across all dictionaries, most frequent first */
+    List<SuggestionDto> suggest(String prefix, int limit) {
+        String key = JobTextAnalyzer.normalize(prefix);
+        if (key == null || key.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        // Min-heap on count keeps only the best `limit` completions seen so far
+        Comparator<SuggestionDto> byCount = Comparator.comparingLong(SuggestionDto::getCount)
+                .thenComparing(SuggestionDto::getText, Comparator.reverseOrder());
+        PriorityQueue<SuggestionDto> heap = new PriorityQueue<>(byCount);
+
+        for (Map.Entry<Type, TreeMap<String, Entry>> dictionary : dictionaries.entrySet()) {
+            for (Map.Entry<String, Entry> candidate : dictionary.getValue().tailMap(key, true).entrySet()) {
+                if (!candidate.getKey().startsWith(key)) {
+                    break;
+                }
+                SuggestionDto suggestion = new SuggestionDto(candidate.getValue().display,
+                        dictionary.getKey().name(), candidate.getValue().count);
+                if (heap.size() < limit) {
+                    heap.add(suggestion);
+                } else if (byCount.compare(suggestion, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.add(suggestion);
+                }
+            }
+        }
+
+        List<SuggestionDto> suggestions = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            suggestions.add(heap.poll());
+        }
+        Collections.reverse(suggestions);
+        return suggestions;
+    }
+
+    private static final class Entry {
+        private final String display; // casing of the first posting that used this text
+        private long count;
+
+        private Entry(String display) {
+            this.display = display;
+        }
+    }
+}
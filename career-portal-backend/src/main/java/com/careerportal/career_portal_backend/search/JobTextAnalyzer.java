@@ -0,0 +1,62 @@
+package com.careerportal.career_portal_backend.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Turns job posting text and search keywords into the lower-cased terms stored in the search index.
+ * Terms are whole words: "javascript" is one term and does not contain the term "java".
+ */
+public final class JobTextAnalyzer {
+
+    // Anything that is not a letter, digit, '+' or '#' separates terms (keeps "c++" and "c#" intact)
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+
+    private JobTextAnalyzer() {
+    }
+
+    /** Splits free text into lower-cased terms */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /** Splits a comma separated skills column into trimmed, lower-cased skills */
+    public static List<String> skills(String requiredSkills) {
+        List<String> skills = new ArrayList<>();
+        if (requiredSkills == null || requiredSkills.isBlank()) {
+            return skills;
+        }
+        for (String skill : requiredSkills.split(",")) {
+            String normalized = skill.trim().toLowerCase(Locale.ROOT);
+            if (!normalized.isEmpty()) {
+                skills.add(normalized);
+            }
+        }
+        return skills;
+    }
+
+    /** Tokenizes every skill of a comma separated skills column */
+    public static List<String> tokenizeSkills(String requiredSkills) {
+        List<String> tokens = new ArrayList<>();
+        for (String skill : skills(requiredSkills)) {
+            tokens.addAll(tokenize(skill));
+        }
+        return tokens;
+    }
+
+    /** Lower-cases a value for case-insensitive comparisons, null-safe */
+    public static String normalize(String value) {
+        return value != null ? value.trim().toLowerCase(Locale.ROOT) : null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.careerportal.career_portal_backend.search;
+
+import java.util.List;
+
+// Top-k job ids in rank order plus the total number of matches
+public class SearchHits {
+    private final List<Long> ids;
+    private final int totalHits;
+
+    public SearchHits(List<Long> ids, int totalHits) {
+        this.ids = ids;
+        this.totalHits = totalHits;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public int getTotalHits() {
+        return totalHits;
+    }
+}
@@ -2,6 +2,7 @@ package com.careerportal.career_portal_backend.security;
 
 import com.careerportal.career_portal_backend.entity.User;
 import com.careerportal.career_portal_backend.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,6 +23,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     }
 
     @Override
+    @Timed(value = "careerportal.users", extraTags = {"operation", "load"})
     public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
         // Try to find user by username first, then by email
         User user = userRepository.findByUsername(usernameOrEmail)
@@ -1,5 +1,6 @@
 package com.careerportal.career_portal_backend.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,10 +20,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider,
+                                   CustomUserDetailsService userDetailsService,
+                                   UserDetailsCache userDetailsCache) {
         this.tokenProvider = tokenProvider;
         this.userDetailsService = userDetailsService;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
@@ -33,14 +38,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. Get JWT from the HTTP request
         String token = getTokenFromRequest(request);
 
-        // 2. Validate the token
-        if(StringUtils.hasText(token) && tokenProvider.validateToken(token)){
+        // 2. Validate the token (one signature check; the verified claims are reused below)
+        Claims claims = StringUtils.hasText(token) ? tokenProvider.getValidatedClaims(token) : null;
+        if(claims != null){
 
             // 3. Get username from token
-            String username = tokenProvider.getUsername(token);
+            String username = claims.getSubject();
 
-            // 4. Load user associated with the token
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // 4. Load user associated with the token (cached, so repeat requests skip the users/roles queries)
+            UserDetails userDetails = userDetailsCache.get(username, userDetailsService::loadUserByUsername);
 
             // 5. Create an Authentication object
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -3,6 +3,11 @@ package com.careerportal.career_portal_backend.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -21,9 +26,27 @@ public class JwtTokenProvider {
     @Value("${app.jwt-expiration-milliseconds}")
     private long jwtExpirationDate;
 
+    // Signing key and parser are derived once; both are immutable and thread-safe
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MeterRegistry meterRegistry;
+
+    public JwtTokenProvider(VerifiedTokenCache verifiedTokenCache, MeterRegistry meterRegistry) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
+
     // Helper method to get the signing key
     private Key key(){
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        return signingKey;
     }
 
     // Generate JWT token from user authentication
@@ -53,46 +76,74 @@ public class JwtTokenProvider {
     // Get username from JWT token
     public String getUsername(String token){
         String cleanToken = token != null ? token.trim() : null;
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(cleanToken)
-                .getBody();
-        return claims.getSubject();
+        return jwtParser.parseClaimsJws(cleanToken).getBody().getSubject();
     }
 
     // Get roles from JWT token
     public String getRoles(String token){
         String cleanToken = token != null ? token.trim() : null;
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(cleanToken)
-                .getBody();
-        return claims.get("roles", String.class);
+        return jwtParser.parseClaimsJws(cleanToken).getBody().get("roles", String.class);
     }
 
     // Validate JWT token
     public boolean validateToken(String token){
+        return getValidatedClaims(token) != null;
+    }
+
+    // Verify the signature and expiry once and return the claims, or null when the token is not valid.
+    // Callers that need the subject should use this instead of validateToken + getUsername (two verifications).
+    // Tokens seen before (and not yet expired) are answered from the verified-token cache.
+    public Claims getValidatedClaims(String token){
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "verified";
         try{
             // Clean the token of any extra whitespace
             String cleanToken = token != null ? token.trim() : null;
             if (cleanToken == null || cleanToken.isEmpty()) {
-                return false;
+                result = recordFailure("empty");
+                return null;
+            }
+            Claims cached = verifiedTokenCache.get(cleanToken);
+            if (cached != null) {
+                result = "cached";
+                return cached;
             }
-            Jwts.parserBuilder().setSigningKey(key()).build().parse(cleanToken);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(cleanToken).getBody();
+            verifiedTokenCache.put(cleanToken, claims);
+            return claims;
         } catch (MalformedJwtException ex){
+            result = recordFailure("malformed");
             System.err.println("Invalid JWT token: " + ex.getMessage());
         } catch (ExpiredJwtException ex){
+            result = recordFailure("expired");
             System.err.println("JWT token is expired: " + ex.getMessage());
+        } catch (SignatureException ex){
+            result = recordFailure("signature");
+            System.err.println("JWT signature does not match: " + ex.getMessage());
         } catch (UnsupportedJwtException ex){
+            result = recordFailure("unsupported");
             System.err.println("JWT token is unsupported: " + ex.getMessage());
         } catch (IllegalArgumentException ex){
+            result = recordFailure("empty");
             System.err.println("JWT claims string is empty: " + ex.getMessage());
         } catch (Exception ex){
+            result = recordFailure("other");
             System.err.println("JWT token validation error: " + ex.getMessage());
+        } finally {
+            // result: cached (no signature check), verified, or rejected
+            sample.stop(Timer.builder("careerportal.jwt.validation")
+                    .tag("result", result)
+                    .register(meterRegistry));
         }
-        return false;
+        return null;
+    }
+
+    // Counts a rejected token by failure type and returns the timer result tag
+    private String recordFailure(String type) {
+        Counter.builder("careerportal.jwt.failures")
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment();
+        return "rejected";
     }
 }
\ No newline at end of file
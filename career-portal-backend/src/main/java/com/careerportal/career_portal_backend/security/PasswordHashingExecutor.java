@@ -0,0 +1,108 @@
+package com.careerportal.career_portal_backend.security;
+
+import com.careerportal.career_portal_backend.execption.ServiceBusyException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt work (login verification, hashing at registration) on a small dedicated pool
+ * instead of Tomcat request threads. The queue is bounded: once it is full new work is
+ * refused straight away with ServiceBusyException (HTTP 503), so a login storm only slows
+ * down logins and never ties up the threads that serve the rest of the API.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+    private final PasswordEncoder passwordEncoder;
+    private final long waitTimeoutMillis;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+                                   @Value("${app.security.bcrypt.threads:2}") int threads,
+                                   @Value("${app.security.bcrypt.queue-capacity:64}") int queueCapacity,
+                                   @Value("${app.security.bcrypt.wait-timeout-ms:10000}") long waitTimeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new PasswordThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Runs the task on the pool; used for login verification.
+     * The future fails with ServiceBusyException when the queue is full or the task is not done within the wait timeout.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return submit(task, "Too many login attempts, please retry shortly");
+    }
+
+    /**
+     * Hashes a password on the pool without blocking the caller; used by the registration endpoints.
+     * Fails like submit() when the pool is saturated.
+     */
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword), "Too many registrations, please retry shortly");
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task, String busyMessage) {
+        CompletableFuture<T> result;
+        try {
+            result = CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            logger.warn("Password hashing queue is full ({} waiting), rejecting request", executor.getQueue().size());
+            return CompletableFuture.failedFuture(new ServiceBusyException(busyMessage));
+        }
+        // Bounds the time spent queued plus running; a task that times out while still queued is skipped by the pool
+        return result.orTimeout(waitTimeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(ex -> ex instanceof TimeoutException
+                        ? CompletableFuture.failedFuture(new ServiceBusyException(busyMessage + " (timed out)"))
+                        : CompletableFuture.failedFuture(ex));
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class PasswordThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.careerportal.career_portal_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, time-limited cache of the UserDetails resolved for authenticated requests,
+ * so JwtAuthenticationFilter does not query users/roles on every call.
+ * Entries expire after the TTL; Caffeine evicts by size once the cache is full.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, UserDetails> entries;
+
+    @Autowired
+    public UserDetailsCache(@Value("${app.security.user-cache.ttl-seconds:300}") long ttlSeconds,
+                            @Value("${app.security.user-cache.max-size:10000}") int maxSize) {
+        this(ttlSeconds, maxSize, Ticker.systemTicker());
+    }
+
+    // The ticker drives expiry, so tests can move time forward
+    UserDetailsCache(long ttlSeconds, int maxSize, Ticker ticker) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, maxSize))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached user or loads (and caches) it; loader exceptions propagate and nothing is cached.
+     * Concurrent misses for the same user share one load, and evict() waits for a load in flight.
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        return entries.get(username, key -> withoutPassword(loader.apply(key)));
+    }
+
+    /** Drops the cached entry of a user whose roles or password changed */
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        entries.invalidate(username);
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    public Cache<String, UserDetails> getCache() {
+        return entries;
+    }
+
+    // Keep the authorities only; the password hash is never needed after login
+    private static UserDetails withoutPassword(UserDetails loaded) {
+        return User.withUsername(loaded.getUsername())
+                .password("")
+                .authorities(loaded.getAuthorities())
+                .accountExpired(!loaded.isAccountNonExpired())
+                .accountLocked(!loaded.isAccountNonLocked())
+                .credentialsExpired(!loaded.isCredentialsNonExpired())
+                .disabled(!loaded.isEnabled())
+                .build();
+    }
+}
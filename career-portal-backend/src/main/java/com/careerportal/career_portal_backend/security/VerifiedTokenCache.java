@@ -0,0 +1,116 @@
+package com.careerportal.career_portal_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of already verified bearer tokens, keyed by the SHA-256 digest of the token.
+ * A repeat request with the same token gets its claims back without signature verification or JSON parsing.
+ * Each entry expires together with its token (a per-entry Caffeine expiry); tokens without an expiration
+ * are not cached. A maximum size of 0 disables the cache.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, Claims> entries;
+    private final boolean enabled;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${app.security.token-cache.max-size:10000}") int maxSize) {
+        this(maxSize, Ticker.systemTicker());
+    }
+
+    // The ticker measures how long entries have lived, so tests can move time forward
+    VerifiedTokenCache(int maxSize, Ticker ticker) {
+        this.enabled = maxSize > 0;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, maxSize))
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        return nanosUntilExpiry(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return nanosUntilExpiry(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /** Returns the cached claims of a token verified earlier, or null when it has to be verified again */
+    public Claims get(String token) {
+        return entries.getIfPresent(digest(token));
+    }
+
+    /** Remembers the claims of a token that just passed verification */
+    public void put(String token, Claims claims) {
+        if (!enabled || claims.getExpiration() == null || nanosUntilExpiry(claims) <= 0) {
+            return;
+        }
+        entries.put(digest(token), claims);
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    public Cache<String, Claims> getCache() {
+        return entries;
+    }
+
+    public long getHitCount() {
+        return entries.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return entries.stats().missCount();
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    // Remaining lifetime of the token when the entry is written
+    private static long nanosUntilExpiry(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return 0;
+        }
+        long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+    }
+
+    // Tokens are not kept in memory as-is; a digest is enough to recognise a repeat token
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory on every Java platform
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.careerportal.career_portal_backend.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Transaction hooks for the in-memory structures that mirror the database (search index, caches).
+ * - run(): applies a change only once the current transaction (if any) has committed; a rollback discards it.
+ * - runNowAndAfterCommit(): cache invalidation, run immediately and again after commit, so a reader that loads
+ *   between the two cannot keep the pre-commit state cached.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    static void runNowAndAfterCommit(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            run(invalidation);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.careerportal.career_portal_backend.entity.Application;
+import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.payload.ApplicationResponseDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * Application to DTO conversion for the job seeker history and the employer's applicant lists.
+ * Reads the job posting, its employer and the job seeker, so callers load them with the application.
+ */
+@Component
+class ApplicationMapper {
+
+    ApplicationResponseDto toDto(Application application) {
+        ApplicationResponseDto dto = new ApplicationResponseDto();
+        dto.setId(application.getId());
+        dto.setStatus(application.getStatus());
+        dto.setApplicationDate(application.getApplicationDate());
+        dto.setJobPostingId(application.getJobPosting().getId());
+        dto.setJobSeekerProfileId(application.getJobSeekerProfile().getId());
+        dto.setJobTitle(application.getJobPosting().getJobTitle());
+        dto.setCompanyName(application.getJobPosting().getEmployer().getCompanyName());
+        dto.setRecruiterNotes(application.getRecruiterNotes());
+
+        // Add job seeker details
+        JobSeekerProfile jobSeeker = application.getJobSeekerProfile();
+        dto.setCandidateName(jobSeeker.getName());
+        dto.setCandidateEmail(jobSeeker.getEmail());
+        dto.setCandidatePhone(jobSeeker.getMobile());
+
+        // Add resume information
+        dto.setResumeFileName(application.getResumeFileName());
+        dto.setHasResume(application.getResumeFileName() != null && !application.getResumeFileName().isEmpty());
+
+        return dto;
+    }
+}
@@ -3,68 +3,64 @@ package com.careerportal.career_portal_backend.service;
 
 import com.careerportal.career_portal_backend.entity.*;
 import com.careerportal.career_portal_backend.execption.AccessDeniedException;
+import com.careerportal.career_portal_backend.execption.BadRequestException;
 import com.careerportal.career_portal_backend.execption.ResourceNotFoundException;
 import com.careerportal.career_portal_backend.payload.ApplicationResponseDto;
 import com.careerportal.career_portal_backend.repository.*;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
 public class ApplicationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationService.class);
+
+    // When enabled, job_postings.application_count is maintained on every application and read directly
+    @Value("${app.applications.denormalized-count:true}")
+    private boolean denormalizedCount;
+
     private final ApplicationRepository applicationRepository;
     private final JobPostingRepository jobPostingRepository;
     private final JobSeekerProfileRepository jobSeekerProfileRepository;
     private final UserRepository userRepository;
     private final EmployerRepository employerRepository;
     private final FileStorageService fileStorageService;
+    private final ApplicationMapper applicationMapper;
 
     public ApplicationService(ApplicationRepository applicationRepository,
                               JobPostingRepository jobPostingRepository,
                               JobSeekerProfileRepository jobSeekerProfileRepository,
                               UserRepository userRepository,
                               EmployerRepository employerRepository,
-                              FileStorageService fileStorageService) {
+                              FileStorageService fileStorageService,
+                              ApplicationMapper applicationMapper) {
         this.applicationRepository = applicationRepository;
         this.jobPostingRepository = jobPostingRepository;
         this.jobSeekerProfileRepository = jobSeekerProfileRepository;
         this.userRepository = userRepository;
         this.employerRepository= employerRepository;
         this.fileStorageService = fileStorageService;
-    }
-
-    // --- Mapper ---
-    private ApplicationResponseDto mapToDTO(Application application) {
-        ApplicationResponseDto dto = new ApplicationResponseDto();
-        dto.setId(application.getId());
-        dto.setStatus(application.getStatus());
-        dto.setApplicationDate(application.getApplicationDate());
-        dto.setJobPostingId(application.getJobPosting().getId());
-        dto.setJobSeekerProfileId(application.getJobSeekerProfile().getId());
-        dto.setJobTitle(application.getJobPosting().getJobTitle());
-        dto.setCompanyName(application.getJobPosting().getEmployer().getCompanyName());
-        dto.setRecruiterNotes(application.getRecruiterNotes());
-        
-        // Add job seeker details
-        JobSeekerProfile jobSeeker = application.getJobSeekerProfile();
-        dto.setCandidateName(jobSeeker.getName());
-        dto.setCandidateEmail(jobSeeker.getEmail());
-        dto.setCandidatePhone(jobSeeker.getMobile());
-        
-        // Add resume information
-        dto.setResumeFileName(application.getResumeFileName());
-        dto.setHasResume(application.getResumeFileName() != null && !application.getResumeFileName().isEmpty());
-        
-        return dto;
+        this.applicationMapper = applicationMapper;
     }
 
     // --- Core Business Logic Methods ---
 
     /** Job Seeker submits an application */
+    @Transactional
+    @Timed(value = "careerportal.applications", extraTags = {"operation", "apply"})
     public ApplicationResponseDto applyForJob(String username, Long jobId, org.springframework.web.multipart.MultipartFile resumeFile) {
         // 1. Fetch Job Seeker Profile
         User user = userRepository.findByUsername(username)
@@ -92,6 +88,8 @@ public class ApplicationService {
                 resumeFileName = resumeFile.getOriginalFilename();
                 resumeContentType = resumeFile.getContentType();
                 resumeFileSize = resumeFile.getSize();
+            } catch (BadRequestException e) {
+                throw e; // Rejected upload (type or size), reported as 400
             } catch (Exception e) {
                 throw new RuntimeException("Failed to store resume file: " + e.getMessage());
             }
@@ -111,15 +109,21 @@ public class ApplicationService {
         application.setResumeFileSize(resumeFileSize);
 
         Application savedApplication = applicationRepository.save(application);
-        return mapToDTO(savedApplication);
+        fileStorageService.addReference(resumeFilePath);
+        if (denormalizedCount) {
+            jobPostingRepository.incrementApplicationCount(jobId);
+        }
+        return applicationMapper.toDto(savedApplication);
     }
 
     /** Job Seeker submits an application (without resume - for backward compatibility) */
+    @Timed(value = "careerportal.applications", extraTags = {"operation", "apply"})
     public ApplicationResponseDto applyForJob(String username, Long jobId) {
         return applyForJob(username, jobId, null);
     }
 
     /** Job Seeker views their application history */
+    @Timed(value = "careerportal.applications", extraTags = {"operation", "list-mine"})
     public List<ApplicationResponseDto> getMyApplications(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
@@ -129,9 +133,10 @@ public class ApplicationService {
 
         List<Application> applications = applicationRepository.findByJobSeekerProfile_Id(profile.getId());
 
-        return applications.stream().map(this::mapToDTO).collect(Collectors.toList());
+        return applications.stream().map(applicationMapper::toDto).collect(Collectors.toList());
     }
 
+    @Timed(value = "careerportal.applications", extraTags = {"operation", "list-for-job"})
     public List<ApplicationResponseDto> getApplicationsForJob(Long jobId, String employerUsername) {
         // 1. Get the authenticated Employer Profile
         User user = userRepository.findByUsername(employerUsername)
@@ -151,13 +156,14 @@ public class ApplicationService {
         List<Application> applications = applicationRepository.findByJobPosting_Id(jobId);
 
         return applications.stream()
-                .map(this::mapToDTO) // Reuse existing mapper
+                .map(applicationMapper::toDto)
                 .collect(Collectors.toList());
     }
 
     /** Employer updates the status of a specific application */
+    @Timed(value = "careerportal.applications", extraTags = {"operation", "update-status"})
     public ApplicationResponseDto updateApplicationStatus(Long applicationId, String newStatus, String recruiterNotes, String employerUsername) {
-        Application application = applicationRepository.findById(applicationId)
+        Application application = applicationRepository.findDetailedById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId.toString()));
 
         // 1. Validate that the job owner is the authenticated employer (Security check)
@@ -170,25 +176,50 @@ public class ApplicationService {
         application.setRecruiterNotes(recruiterNotes);
 
         Application updatedApplication = applicationRepository.save(application);
-        return mapToDTO(updatedApplication);
+        return applicationMapper.toDto(updatedApplication);
     }
     /** Get application count for a specific job */
     public Long getApplicationCountForJob(Long jobId) {
         return applicationRepository.countByJobPosting_Id(jobId);
     }
 
-    /** Get application counts for multiple jobs */
-    public java.util.Map<Long, Long> getApplicationCountsForJobs(List<Long> jobIds) {
-        return jobIds.stream()
-                .collect(java.util.stream.Collectors.toMap(
-                    jobId -> jobId,
-                    this::getApplicationCountForJob
-                ));
+    /** Get application counts for multiple jobs with a single grouped query (jobs without applications map to 0) */
+    @Timed(value = "careerportal.applications", extraTags = {"operation", "count-for-jobs"})
+    public Map<Long, Long> getApplicationCountsForJobs(List<Long> jobIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (jobIds.isEmpty()) {
+            return counts;
+        }
+        for (Long jobId : jobIds) {
+            counts.put(jobId, 0L);
+        }
+        for (Object[] row : applicationRepository.countGroupedByJobPostingIds(jobIds)) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    /** True when job postings carry an up-to-date application counter, so no count query is needed */
+    public boolean usesDenormalizedCounts() {
+        return denormalizedCount;
+    }
+
+    /** Fills the application counter of postings created before the column existed */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillApplicationCounts() {
+        if (!denormalizedCount) {
+            return;
+        }
+        int updated = jobPostingRepository.backfillApplicationCounts();
+        if (updated > 0) {
+            logger.info("Backfilled application counts for {} job postings", updated);
+        }
     }
 
     /** Get resume file for an application (for employers) */
     public org.springframework.core.io.Resource getApplicationResume(Long applicationId, String employerUsername) {
-        Application application = applicationRepository.findById(applicationId)
+        Application application = applicationRepository.findDetailedById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId.toString()));
 
         // Verify that the job belongs to the authenticated employer
@@ -205,7 +236,7 @@ public class ApplicationService {
 
     /** Get resume filename for an application (for employers) */
     public String getApplicationResumeFileName(Long applicationId, String employerUsername) {
-        Application application = applicationRepository.findById(applicationId)
+        Application application = applicationRepository.findDetailedById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId.toString()));
 
         // Verify that the job belongs to the authenticated employer
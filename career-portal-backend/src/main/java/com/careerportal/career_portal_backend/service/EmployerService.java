@@ -1,21 +1,34 @@
 package com.careerportal.career_portal_backend.service;
 
+import com.careerportal.career_portal_backend.config.PaginationProperties;
 import com.careerportal.career_portal_backend.entity.Employer;
 import com.careerportal.career_portal_backend.entity.User;
 import com.careerportal.career_portal_backend.payload.EmployerRegisterDto;
 import com.careerportal.career_portal_backend.repository.EmployerRepository;
+import com.careerportal.career_portal_backend.specifications.EmployerSpecification;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalDate;
+
 @Service
 public class EmployerService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployerService.class);
     private final EmployerRepository employerRepository;
+    private final PaginationProperties paginationProperties;
+    private final JsonResponseCache jsonResponseCache;
 
-    public EmployerService(EmployerRepository employerRepository) {
+    public EmployerService(EmployerRepository employerRepository, PaginationProperties paginationProperties,
+                           JsonResponseCache jsonResponseCache) {
         this.employerRepository = employerRepository;
+        this.paginationProperties = paginationProperties;
+        this.jsonResponseCache = jsonResponseCache;
     }
 
     /**
@@ -42,6 +55,7 @@ public class EmployerService {
         employer.setCompanyPhone(registerDto.getCompanyPhone());
         
         Employer savedEmployer = employerRepository.save(employer);
+        jsonResponseCache.invalidate(JsonResponseCache.EMPLOYERS);
         logger.info("Created employer profile with ID: {} for user: {}", savedEmployer.getId(), user.getUsername());
         
         return savedEmployer;
@@ -66,6 +80,7 @@ public class EmployerService {
         employer.setCompanyPhone("Please Update Phone");
         
         Employer savedEmployer = employerRepository.save(employer);
+        jsonResponseCache.invalidate(JsonResponseCache.EMPLOYERS);
         logger.info("Created default employer profile with ID: {} for user: {}", savedEmployer.getId(), user.getUsername());
         
         return savedEmployer;
@@ -142,41 +157,25 @@ public class EmployerService {
         }
         
         Employer updatedEmployer = employerRepository.save(employer);
+        jsonResponseCache.invalidate(JsonResponseCache.EMPLOYERS);
         logger.info("Updated employer profile with ID: {} for user: {}", updatedEmployer.getId(), user.getUsername());
         
         return updatedEmployer;
     }
 
     /**
-     * Gets all employers with optional filters
+     * Gets one page of employers, with all filters applied by the database
      */
-    public java.util.List<Employer> getAllEmployers(String companyName, String industry, Integer foundedAfter) {
-        logger.info("Fetching all employers with filters");
-        
-        java.util.List<Employer> employers = employerRepository.findAll();
-        
-        // Apply filters
-        if (companyName != null && !companyName.trim().isEmpty()) {
-            employers = employers.stream()
-                    .filter(emp -> emp.getCompanyName() != null && 
-                            emp.getCompanyName().toLowerCase().contains(companyName.toLowerCase()))
-                    .collect(java.util.stream.Collectors.toList());
-        }
-        
-        if (industry != null && !industry.trim().isEmpty()) {
-            employers = employers.stream()
-                    .filter(emp -> emp.getIndustry() != null && 
-                            emp.getIndustry().toLowerCase().contains(industry.toLowerCase()))
-                    .collect(java.util.stream.Collectors.toList());
-        }
-        
-        if (foundedAfter != null) {
-            employers = employers.stream()
-                    .filter(emp -> emp.getFounded() != null && emp.getFounded() >= foundedAfter)
-                    .collect(java.util.stream.Collectors.toList());
-        }
-        
-        logger.info("Returning {} employers after filtering", employers.size());
+    public Page<Employer> getAllEmployers(String companyName, String industry, Integer foundedAfter,
+                                          LocalDate createdAfter, Integer page, Integer size) {
+        logger.info("Fetching employers with filters");
+
+        Pageable pageable = PageRequest.of(paginationProperties.resolvePage(page),
+                paginationProperties.resolvePageSize(size), Sort.by("companyName").and(Sort.by("id")));
+        Page<Employer> employers = employerRepository.findAll(
+                EmployerSpecification.filterEmployers(companyName, industry, foundedAfter, createdAfter), pageable);
+
+        logger.info("Returning {} of {} matching employers", employers.getNumberOfElements(), employers.getTotalElements());
         return employers;
     }
 }
\ No newline at end of file
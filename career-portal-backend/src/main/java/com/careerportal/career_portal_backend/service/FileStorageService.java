@@ -1,34 +1,88 @@
 package com.careerportal.career_portal_backend.service;
 
+import com.careerportal.career_portal_backend.entity.StoredFile;
+import com.careerportal.career_portal_backend.execption.BadRequestException;
+import com.careerportal.career_portal_backend.repository.StoredFileRepository;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
+/**
+ * Content-addressed upload store: a file is stored as <subdir>/<sha256>.<ext>, so the same resume
+ * uploaded for 50 applications is kept on disk once. Each blob has a stored_files row whose
+ * reference count follows the Application / JobSeekerProfile rows pointing at it; blobs that
+ * end up unreferenced are removed by the startup sweep.
+ */
 @Service
 public class FileStorageService {
 
     private static final Logger logger = LoggerFactory.getLogger(FileStorageService.class);
-    
+
+    // Uploads are written here first and renamed into place (same file system, so the rename is atomic)
+    public static final String TEMP_DIRECTORY = ".tmp";
+
+    // Leading bytes ("magic numbers") of the accepted upload formats, checked in the hashing pass
+    private static final int SIGNATURE_BYTES = 8;
+    private static final Map<String, byte[][]> SIGNATURES = Map.of(
+            ".pdf", new byte[][]{{'%', 'P', 'D', 'F'}},
+            ".doc", new byte[][]{{(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1}},
+            ".docx", new byte[][]{{'P', 'K', 0x03, 0x04}},
+            ".jpg", new byte[][]{{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}},
+            ".jpeg", new byte[][]{{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}},
+            ".png", new byte[][]{{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A}},
+            ".gif", new byte[][]{{'G', 'I', 'F', '8', '7', 'a'}, {'G', 'I', 'F', '8', '9', 'a'}});
+
     private final Path fileStorageLocation;
+    private final StoredFileRepository storedFileRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.file.orphan-grace-hours:24}")
+    private long orphanGraceHours;
+
+    @Value("${app.file.max-size:10MB}")
+    private DataSize maxFileSize;
 
-    public FileStorageService(@Value("${app.file.upload-dir:uploads}") String uploadDir) {
+    public FileStorageService(@Value("${app.file.upload-dir:${file.upload.dir:uploads}}") String uploadDir,
+                              StoredFileRepository storedFileRepository,
+                              MeterRegistry meterRegistry) {
         this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.storedFileRepository = storedFileRepository;
+        this.meterRegistry = meterRegistry;
         
         try {
             Files.createDirectories(this.fileStorageLocation);
+            Files.createDirectories(this.fileStorageLocation.resolve(TEMP_DIRECTORY));
             logger.info("File storage directory created at: {}", this.fileStorageLocation);
         } catch (Exception ex) {
             logger.error("Could not create the directory where the uploaded files will be stored.", ex);
@@ -36,43 +90,233 @@ public class FileStorageService {
         }
     }
 
+    /**
+     * Stores an upload and returns its relative path. Runs in the caller's transaction, so the caller can add
+     * its reference before anything commits. If that transaction rolls back, a blob this call wrote is registered
+     * again on its own and left for the sweep to clean up.
+     */
+    @Transactional
+    @Timed(value = "careerportal.files", extraTags = {"operation", "store"})
     public String storeFile(MultipartFile file, String subDirectory) {
         // Normalize file name
-        String fileName = StringUtils.cleanPath(file.getOriginalFilename());
+        String fileName = StringUtils.cleanPath(file.getOriginalFilename() != null ? file.getOriginalFilename() : "");
 
+        Path tempFile = null;
         try {
             // Check if the file's name contains invalid characters
             if (fileName.contains("..")) {
                 throw new RuntimeException("Sorry! Filename contains invalid path sequence " + fileName);
             }
 
-            // Generate unique filename to avoid conflicts
             String fileExtension = "";
             int dotIndex = fileName.lastIndexOf('.');
             if (dotIndex > 0) {
-                fileExtension = fileName.substring(dotIndex);
+                fileExtension = fileName.substring(dotIndex).toLowerCase(Locale.ROOT);
             }
-            String uniqueFileName = UUID.randomUUID().toString() + fileExtension;
-
-            // Create subdirectory if it doesn't exist
-            Path targetLocation = this.fileStorageLocation.resolve(subDirectory);
-            Files.createDirectories(targetLocation);
-            
-            // Copy file to the target location (Replacing existing file with the same name)
-            Path filePath = targetLocation.resolve(uniqueFileName);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-            logger.info("File stored successfully: {}", filePath);
-            return subDirectory + "/" + uniqueFileName;
+
+            // 1. One read of the spooled upload: hash it, count the bytes and check the file signature
+            MessageDigest digest = sha256();
+            byte[] head = new byte[SIGNATURE_BYTES];
+            int headLength = 0;
+            long size = 0;
+            try (InputStream in = file.getInputStream()) {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    if (headLength < head.length) {
+                        int copied = Math.min(read, head.length - headLength);
+                        System.arraycopy(buffer, 0, head, headLength, copied);
+                        headLength += copied;
+                    }
+                    size += read;
+                    if (size > maxFileSize.toBytes()) {
+                        throw new BadRequestException("File exceeds the maximum size of " + maxFileSize.toMegabytes() + "MB");
+                    }
+                    digest.update(buffer, 0, read);
+                }
+            }
+            validateSignature(fileExtension, head, headLength);
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            // 2. Register (or touch) the blob row first: it holds the row lock until the caller commits,
+            // so the sweep cannot delete the blob between the existence check below and the caller's addReference
+            String relativePath = subDirectory + "/" + hash + fileExtension;
+            storedFileRepository.registerIfAbsent(relativePath, hash, size);
+
+            // 3. Keep one blob per digest: identical content is already on disk under the same name
+            boolean duplicate = Files.exists(locate(relativePath));
+            if (duplicate) {
+                logger.info("File content already stored, reusing: {}", relativePath);
+            } else {
+                Path filePath = shardedPath(relativePath);
+                // 4. Move the multipart spool file instead of copying it. The multipart location is inside
+                // the upload directory (see MultipartConfig), so both moves are renames on one file system.
+                tempFile = createTempFile();
+                file.transferTo(tempFile.toFile());
+                Files.createDirectories(filePath.getParent());
+                Files.move(tempFile, filePath, StandardCopyOption.ATOMIC_MOVE);
+                logger.info("File stored successfully: {}", filePath);
+                registerOnRollback(relativePath, hash, size);
+            }
+
+            recordUpload(subDirectory, size, duplicate);
+            return relativePath;
         } catch (IOException ex) {
             logger.error("Could not store file {}. Please try again!", fileName, ex);
             throw new RuntimeException("Could not store file " + fileName + ". Please try again!", ex);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    // A rollback also undoes the row of a blob this upload wrote; put the row back so the sweep can find the file
+    private void registerOnRollback(String relativePath, String hash, long size) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    storedFileRepository.registerOrphan(relativePath, hash, size);
+                }
+            }
+        });
+    }
+
+    // Upload volume per subdirectory; "deduplicated" marks uploads that did not add a blob to the disk
+    private void recordUpload(String subDirectory, long size, boolean duplicate) {
+        DistributionSummary.builder("careerportal.files.uploaded.bytes")
+                .baseUnit("bytes")
+                .tag("subdir", subDirectory)
+                .tag("deduplicated", String.valueOf(duplicate))
+                .register(meterRegistry)
+                .record(size);
+    }
+
+    /** Records that one more row points at the stored path (no-op for paths stored before deduplication) */
+    @Transactional
+    public void addReference(String filePath) {
+        if (StringUtils.hasText(filePath)) {
+            storedFileRepository.incrementReferences(filePath);
+        }
+    }
+
+    /** Records that a row no longer points at the stored path */
+    @Transactional
+    public void releaseReference(String filePath) {
+        if (StringUtils.hasText(filePath)) {
+            storedFileRepository.decrementReferences(filePath);
+        }
+    }
+
+    /** Swaps the reference from the old to the new path when a row's stored path changes */
+    @Transactional
+    public void replaceReference(String oldPath, String newPath) {
+        if (oldPath != null && oldPath.equals(newPath)) {
+            return;
+        }
+        releaseReference(oldPath);
+        addReference(newPath);
+    }
+
+    /**
+     * Recounts references from the database (catches rows removed by cascades, e.g. a deleted job posting)
+     * and deletes blobs that have been unreferenced for longer than the grace period.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void sweepUnreferencedFiles() {
+        int recounted = storedFileRepository.recountReferences();
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(orphanGraceHours);
+
+        int deleted = 0;
+        long lastId = 0L;
+        List<StoredFile> candidates;
+        do {
+            candidates = storedFileRepository
+                    .findTop500ByReferenceCountAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(0L, cutoff, lastId);
+            for (StoredFile candidate : candidates) {
+                lastId = candidate.getId();
+                if (storedFileRepository.deleteIfUnreferenced(candidate.getId(), cutoff) == 1) {
+                    deleteFile(candidate.getPath());
+                    if (candidate.getPath().startsWith("photos/")) {
+                        for (int size : PhotoVariants.SIZES) {
+                            deleteFile(PhotoVariants.pathFor(candidate.getPath(), size));
+                        }
+                    }
+                    deleted++;
+                }
+            }
+        } while (!candidates.isEmpty());
+
+        logger.info("Stored file sweep: recounted {} blobs, deleted {} unreferenced", recounted, deleted);
+    }
+
+    /**
+     * Where a stored path lives on disk. Stored paths stay "<subdir>/<name>" (database values and URLs do not change);
+     * files are fanned out to "<subdir>/<ab>/<cd>/<name>" so no directory grows to millions of entries.
+     */
+    public Path shardedPath(String filePath) {
+        int slash = filePath.lastIndexOf('/');
+        String directory = slash >= 0 ? filePath.substring(0, slash + 1) : "";
+        String name = filePath.substring(slash + 1);
+        return checkInside(fileStorageLocation.resolve(directory + shardOf(name) + "/" + name).normalize(), filePath);
+    }
+
+    /** Location of a stored path in the original flat layout (files not migrated yet) */
+    public Path flatPath(String filePath) {
+        return checkInside(fileStorageLocation.resolve(filePath).normalize(), filePath);
+    }
+
+    /**
+     * Existing file of a stored path: the sharded location, else the flat one while it has not been migrated.
+     * Otherwise the sharded location is returned, which is also right when the migrator moved the file
+     * between the two checks.
+     */
+    public Path locate(String filePath) {
+        Path sharded = shardedPath(filePath);
+        if (Files.exists(sharded)) {
+            return sharded;
+        }
+        Path flat = flatPath(filePath);
+        if (Files.exists(flat)) {
+            return flat;
         }
+        return sharded;
+    }
+
+    public Path getStorageLocation() {
+        return fileStorageLocation;
+    }
+
+    /**
+     * Two levels of fan-out ("ab/cd") taken from the start of the file name when it is hex
+     * (content hashes and UUIDs), otherwise from a SHA-256 of the name.
+     */
+    public static String shardOf(String fileName) {
+        String key = fileName.toLowerCase(Locale.ROOT);
+        if (key.length() < 4 || !key.substring(0, 4).chars().allMatch(c -> Character.digit(c, 16) >= 0)) {
+            key = HexFormat.of().formatHex(sha256().digest(fileName.getBytes(StandardCharsets.UTF_8)));
+        }
+        return key.substring(0, 2) + "/" + key.substring(2, 4);
+    }
+
+    private Path checkInside(Path file, String filePath) {
+        if (!file.startsWith(this.fileStorageLocation)) {
+            throw new RuntimeException("Invalid file path " + filePath);
+        }
+        return file;
+    }
+
+    /** New empty temp file on the same file system as the store, for write-then-rename */
+    public Path createTempFile() throws IOException {
+        return Files.createTempFile(fileStorageLocation.resolve(TEMP_DIRECTORY), "write-", ".tmp");
     }
 
     public Resource loadFileAsResource(String filePath) {
         try {
-            Path file = this.fileStorageLocation.resolve(filePath).normalize();
+            Path file = locate(filePath);
             Resource resource = new UrlResource(file.toUri());
             if (resource.exists()) {
                 return resource;
@@ -86,11 +330,48 @@ public class FileStorageService {
 
     public void deleteFile(String filePath) {
         try {
-            Path file = this.fileStorageLocation.resolve(filePath).normalize();
-            Files.deleteIfExists(file);
-            logger.info("File deleted successfully: {}", file);
+            // Either layout may hold the file while a migration is running
+            boolean deleted = Files.deleteIfExists(shardedPath(filePath)) | Files.deleteIfExists(flatPath(filePath));
+            if (deleted) {
+                logger.info("File deleted successfully: {}", filePath);
+            }
         } catch (IOException ex) {
             logger.error("Could not delete file: {}", filePath, ex);
         }
     }
-}
\ No newline at end of file
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            logger.warn("Could not delete temp file: {}", path, ex);
+        }
+    }
+
+    // Rejects uploads whose first bytes do not match the format their extension claims
+    private static void validateSignature(String fileExtension, byte[] head, int headLength) {
+        byte[][] signatures = SIGNATURES.get(fileExtension);
+        if (signatures == null) {
+            return; // No known signature for this extension; callers restrict extensions themselves
+        }
+        for (byte[] signature : signatures) {
+            if (headLength >= signature.length
+                    && Arrays.equals(head, 0, signature.length, signature, 0, signature.length)) {
+                return;
+            }
+        }
+        throw new BadRequestException("File content does not match its " + fileExtension + " extension");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory on every Java platform
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.careerportal.career_portal_backend.entity.Employer;
+import com.careerportal.career_portal_backend.execption.BadRequestException;
+import com.careerportal.career_portal_backend.payload.ImportResultDto;
+import com.careerportal.career_portal_backend.payload.ImportRowErrorDto;
+import com.careerportal.career_portal_backend.payload.JobPostingDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Imports job postings for one employer from a CSV or NDJSON (one JSON object per line) upload.
+ * The file is read row by row; valid rows are collected into batches that are inserted with
+ * JDBC batching, each batch in its own transaction. Invalid rows are reported with their line
+ * number and do not stop the import.
+ */
+@Service
+public class JobImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobImportService.class);
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    // CSV header (normalized: lower case, no '_', '-' or spaces) -> JobPostingDto setter
+    private static final Map<String, BiConsumer<JobPostingDto, String>> CSV_COLUMNS = new HashMap<>();
+
+    static {
+        CSV_COLUMNS.put("jobtitle", JobPostingDto::setJobTitle);
+        CSV_COLUMNS.put("jobposition", JobPostingDto::setJobPosition);
+        CSV_COLUMNS.put("description", JobPostingDto::setDescription);
+        CSV_COLUMNS.put("requiredskills", JobPostingDto::setRequiredSkills);
+        CSV_COLUMNS.put("location", JobPostingDto::setLocation);
+        CSV_COLUMNS.put("experiencelevel", JobPostingDto::setExperienceLevel);
+        CSV_COLUMNS.put("functionalarea", JobPostingDto::setFunctionalArea);
+        CSV_COLUMNS.put("industry", JobPostingDto::setIndustry);
+        CSV_COLUMNS.put("salarydetails", JobPostingDto::setSalaryDetails);
+    }
+
+    private final JobPostingService jobPostingService;
+    private final ObjectReader jobPostingReader;
+
+    @Value("${app.jobs.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.jobs.import.max-reported-errors:200}")
+    private int maxReportedErrors;
+
+    public JobImportService(JobPostingService jobPostingService, ObjectMapper objectMapper) {
+        this.jobPostingService = jobPostingService;
+        this.jobPostingReader = objectMapper.readerFor(JobPostingDto.class);
+    }
+
+    /** Imports the uploaded file; format is "csv" or "ndjson", or derived from the file name when null */
+    public ImportResultDto importJobPostings(String username, MultipartFile file, String format) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("Import file is empty");
+        }
+        String resolvedFormat = resolveFormat(format, file.getOriginalFilename());
+        Employer employer = jobPostingService.resolveEmployer(username);
+        logger.info("Importing {} job postings from {} for employer ID: {}", resolvedFormat, file.getOriginalFilename(), employer.getId());
+
+        ImportRun run = new ImportRun(employer);
+        // Multipart uploads are spooled to disk, so this streams from the temp file
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            if (FORMAT_CSV.equals(resolvedFormat)) {
+                readCsv(reader, run);
+            } else {
+                readNdjson(reader, run);
+            }
+        }
+        run.flush();
+
+        ImportResultDto result = run.result;
+        logger.info("Import finished for employer ID: {}: {} rows, {} imported, {} failed",
+                employer.getId(), result.getTotalRows(), result.getImported(), result.getFailed());
+        return result;
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                run.accept(lineNumber, jobPostingReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                run.reject(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            throw new BadRequestException("CSV file has no header row");
+        }
+
+        // Column index -> setter; unknown columns are ignored
+        List<BiConsumer<JobPostingDto, String>> setters = new ArrayList<>();
+        for (String column : header) {
+            BiConsumer<JobPostingDto, String> setter = CSV_COLUMNS.get(normalizeColumn(column));
+            if (setter == null) {
+                logger.warn("Ignoring unknown CSV column: {}", column);
+            }
+            setters.add(setter);
+        }
+
+        List<String> record;
+        while ((record = csv.readRecord()) != null) {
+            long lineNumber = csv.getRecordLine();
+            if (record.stream().allMatch(String::isBlank)) {
+                continue;
+            }
+            if (csv.hasUnterminatedQuote()) {
+                run.reject(lineNumber, "Unterminated quoted field");
+                continue;
+            }
+            if (record.size() > setters.size()) {
+                run.reject(lineNumber, "Row has " + record.size() + " fields but the header has " + setters.size());
+                continue;
+            }
+            JobPostingDto dto = new JobPostingDto();
+            for (int i = 0; i < record.size(); i++) {
+                BiConsumer<JobPostingDto, String> setter = setters.get(i);
+                String value = record.get(i).trim();
+                if (setter != null && !value.isEmpty()) {
+                    setter.accept(dto, value);
+                }
+            }
+            run.accept(lineNumber, dto);
+        }
+    }
+
+    private static String resolveFormat(String format, String fileName) {
+        String candidate = StringUtils.hasText(format) ? format : StringUtils.getFilenameExtension(fileName);
+        if (candidate != null) {
+            switch (candidate.toLowerCase(Locale.ROOT)) {
+                case "csv":
+                    return FORMAT_CSV;
+                case "ndjson":
+                case "jsonl":
+                case "json":
+                    return FORMAT_NDJSON;
+                default:
+                    break;
+            }
+        }
+        throw new BadRequestException("Unsupported import format, use csv or ndjson");
+    }
+
+    private static String normalizeColumn(String column) {
+        // Strip a UTF-8 byte order mark left on the first header cell by spreadsheet exports
+        String value = column.startsWith("\uFEFF") ? column.substring(1) : column;
+        return value.replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT);
+    }
+
+    // State of one import: the batch being filled and the result being reported
+    private final class ImportRun {
+        private final Employer employer;
+        private final List<JobPostingDto> pending = new ArrayList<>();
+        private final List<Long> pendingLines = new ArrayList<>();
+        private final ImportResultDto result = new ImportResultDto();
+
+        private ImportRun(Employer employer) {
+            this.employer = employer;
+        }
+
+        private void accept(long line, JobPostingDto dto) {
+            List<String> errors = jobPostingService.validate(dto, null);
+            if (!errors.isEmpty()) {
+                reject(line, String.join("; ", errors));
+                return;
+            }
+            result.setTotalRows(result.getTotalRows() + 1);
+            pending.add(dto);
+            pendingLines.add(line);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void reject(long line, String message) {
+            result.setTotalRows(result.getTotalRows() + 1);
+            fail(line, message);
+        }
+
+        private void fail(long line, String message) {
+            result.setFailed(result.getFailed() + 1);
+            if (result.getErrors().size() < maxReportedErrors) {
+                result.getErrors().add(new ImportRowErrorDto(line, message));
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                result.setImported(result.getImported() + jobPostingService.insertJobPostings(employer, pending));
+            } catch (DataAccessException | TransactionException e) {
+                // The whole batch was rolled back; report every row of it
+                logger.error("Import batch of {} rows failed for employer ID: {}", pending.size(), employer.getId(), e);
+                String message = "Batch insert failed: " + e.getMostSpecificCause().getMessage();
+                for (Long line : pendingLines) {
+                    fail(line, message);
+                }
+            }
+            pending.clear();
+            pendingLines.clear();
+        }
+    }
+}
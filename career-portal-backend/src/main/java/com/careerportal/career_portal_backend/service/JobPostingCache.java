@@ -0,0 +1,116 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.careerportal.career_portal_backend.payload.JobPostingDto;
+import com.careerportal.career_portal_backend.payload.PagedResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Read-through caches for the public job endpoints: job details by id and search/listing pages by query key.
+ * Both are Caffeine caches (W-TinyLFU admission) bounded by an estimate of their size in bytes.
+ * Writes invalidate the touched job id and every cached page (a change can move a job into or out of any result);
+ * invalidation runs again after commit so a concurrent reader cannot re-cache the pre-commit state.
+ * Cached DTOs are shared between requests and must not be modified by callers.
+ */
+@Component
+public class JobPostingCache {
+
+    // Rough per-object overhead used by the weighers
+    private static final int OBJECT_OVERHEAD = 64;
+
+    private final Cache<Long, JobPostingDto> jobs;
+    private final Cache<String, PagedResponse<JobPostingDto>> pages;
+
+    public JobPostingCache(@Value("${app.cache.jobs.max-bytes:16777216}") long jobsMaxBytes,
+                           @Value("${app.cache.job-pages.max-bytes:33554432}") long pagesMaxBytes,
+                           @Value("${app.cache.jobs.ttl-seconds:600}") long ttlSeconds) {
+        // The TTL only bounds staleness when several instances share the database; writes invalidate explicitly
+        this.jobs = Caffeine.newBuilder()
+                .maximumWeight(jobsMaxBytes)
+                .weigher((Long id, JobPostingDto job) -> weigh(job))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(pagesMaxBytes)
+                .weigher((String key, PagedResponse<JobPostingDto> page) -> weigh(page))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /** Returns the cached job or loads it; loader exceptions (e.g. not found) propagate and nothing is cached */
+    public JobPostingDto getJob(Long jobId, Supplier<JobPostingDto> loader) {
+        return jobs.get(jobId, id -> loader.get());
+    }
+
+    /** Returns the cached page for the query key or loads it */
+    public PagedResponse<JobPostingDto> getPage(String queryKey, Supplier<PagedResponse<JobPostingDto>> loader) {
+        return pages.get(queryKey, key -> loader.get());
+    }
+
+    /** Drops the job and all cached pages, now and again once the current transaction has committed */
+    public void invalidateJob(Long jobId) {
+        AfterCommit.runNowAndAfterCommit(() -> {
+            jobs.invalidate(jobId);
+            pages.invalidateAll();
+        });
+    }
+
+    /** Drops all cached pages (new postings change listings but no cached job detail) */
+    public void invalidatePages() {
+        AfterCommit.runNowAndAfterCommit(pages::invalidateAll);
+    }
+
+    public Cache<Long, JobPostingDto> getJobCache() {
+        return jobs;
+    }
+
+    public Cache<String, PagedResponse<JobPostingDto>> getPageCache() {
+        return pages;
+    }
+
+    public CacheStats jobStats() {
+        return jobs.stats();
+    }
+
+    public CacheStats pageStats() {
+        return pages.stats();
+    }
+
+    private static int weigh(PagedResponse<JobPostingDto> page) {
+        long weight = OBJECT_OVERHEAD;
+        if (page.getContent() != null) {
+            for (JobPostingDto job : page.getContent()) {
+                weight += weigh(job);
+            }
+        }
+        if (page.getFacets() != null) {
+            for (Map<String, Long> counts : page.getFacets().values()) {
+                for (String value : counts.keySet()) {
+                    weight += OBJECT_OVERHEAD + length(value);
+                }
+            }
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static int weigh(JobPostingDto job) {
+        // Strings dominate; 2 bytes per char is the worst case (non-Latin-1 text)
+        long chars = length(job.getJobTitle()) + length(job.getJobPosition()) + length(job.getDescription())
+                + length(job.getRequiredSkills()) + length(job.getLocation()) + length(job.getExperienceLevel())
+                + length(job.getFunctionalArea()) + length(job.getIndustry()) + length(job.getSalaryDetails());
+        return (int) Math.min(OBJECT_OVERHEAD * 4 + chars * 2, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
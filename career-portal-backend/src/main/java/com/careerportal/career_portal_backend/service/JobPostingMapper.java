@@ -0,0 +1,52 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.careerportal.career_portal_backend.entity.Employer;
+import com.careerportal.career_portal_backend.entity.JobPosting;
+import com.careerportal.career_portal_backend.payload.JobPostingDto;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Conversion between job postings and their DTO (the per-row cost of every job listing).
+ * Stateless and only reads the entity graph, so the mapping benchmark can use it without a context.
+ */
+@Component
+class JobPostingMapper {
+
+    // New posting of the given employer, active and dated today
+    JobPosting toEntity(JobPostingDto jobPostingDto, Employer employer) {
+        JobPosting job = new JobPosting();
+        job.setJobTitle(jobPostingDto.getJobTitle());
+        job.setJobPosition(jobPostingDto.getJobPosition());
+        job.setDescription(jobPostingDto.getDescription());
+        job.setRequiredSkills(jobPostingDto.getRequiredSkills());
+        job.setLocation(jobPostingDto.getLocation());
+        job.setExperienceLevel(jobPostingDto.getExperienceLevel());
+        job.setFunctionalArea(jobPostingDto.getFunctionalArea());
+        job.setIndustry(jobPostingDto.getIndustry());
+        job.setSalaryDetails(jobPostingDto.getSalaryDetails());
+        job.setEmployer(employer); // Set the posting employer
+        job.setDatePosted(LocalDate.now());
+        job.setIsActive(true);
+        return job;
+    }
+
+    JobPostingDto toDto(JobPosting jobPosting) {
+        JobPostingDto dto = new JobPostingDto();
+        dto.setId(jobPosting.getId());
+        dto.setJobTitle(jobPosting.getJobTitle());
+        dto.setJobPosition(jobPosting.getJobPosition());
+        dto.setDescription(jobPosting.getDescription());
+        dto.setRequiredSkills(jobPosting.getRequiredSkills());
+        dto.setLocation(jobPosting.getLocation());
+        dto.setExperienceLevel(jobPosting.getExperienceLevel());
+        dto.setFunctionalArea(jobPosting.getFunctionalArea());
+        dto.setIndustry(jobPosting.getIndustry());
+        dto.setSalaryDetails(jobPosting.getSalaryDetails());
+        dto.setDatePosted(jobPosting.getDatePosted());
+        dto.setIsActive(jobPosting.getIsActive());
+        dto.setApplicationCount(0L); // Will be set by controller if needed
+        return dto;
+    }
+}
@@ -1,22 +1,43 @@
 package com.careerportal.career_portal_backend.service;
 
+import com.careerportal.career_portal_backend.config.PaginationProperties;
 import com.careerportal.career_portal_backend.entity.Employer;
 import com.careerportal.career_portal_backend.entity.JobPosting;
 import com.careerportal.career_portal_backend.entity.User;
+import com.careerportal.career_portal_backend.execption.BadRequestException;
 import com.careerportal.career_portal_backend.execption.ResourceNotFoundException;
 import com.careerportal.career_portal_backend.payload.JobPostingDto;
+import com.careerportal.career_portal_backend.payload.PagedResponse;
+import com.careerportal.career_portal_backend.payload.SuggestionDto;
 import com.careerportal.career_portal_backend.repository.EmployerRepository;
+import com.careerportal.career_portal_backend.repository.JobPostingBatchRepository;
 import com.careerportal.career_portal_backend.repository.JobPostingRepository;
 import com.careerportal.career_portal_backend.repository.UserRepository;
+import com.careerportal.career_portal_backend.search.JobSearchIndex;
+import com.careerportal.career_portal_backend.search.SearchHits;
 import com.careerportal.career_portal_backend.specifications.JobSpecification;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,143 +45,384 @@ public class JobPostingService {
 
     private static final Logger logger = LoggerFactory.getLogger(JobPostingService.class);
 
+    // Newest first; also the ordering the keyset cursor is defined on
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "datePosted").and(Sort.by(Sort.Direction.DESC, "id"));
+    private static final String RELEVANCE_SORT = "relevance";
+    private static final int DEFAULT_SUGGESTIONS = 10;
+    private static final int MAX_SUGGESTIONS = 25;
+    private static final Set<String> SORTABLE_FIELDS = Set.of("datePosted", "jobTitle", "location", "experienceLevel", "id");
+    private static final Map<String, JobSearchIndex.SortField> INDEX_SORT_FIELDS = Map.of(
+            "datePosted", JobSearchIndex.SortField.DATE_POSTED,
+            "jobTitle", JobSearchIndex.SortField.JOB_TITLE,
+            "location", JobSearchIndex.SortField.LOCATION,
+            "experienceLevel", JobSearchIndex.SortField.EXPERIENCE_LEVEL,
+            "id", JobSearchIndex.SortField.ID);
+
     private final JobPostingRepository jobPostingRepository;
     private final EmployerRepository employerRepository;
     private final UserRepository userRepository;
     private final EmployerService employerService;
+    private final JobSearchIndex jobSearchIndex;
+    private final PaginationProperties paginationProperties;
+    private final JobPostingBatchRepository jobPostingBatchRepository;
+    private final Validator validator;
+    private final JobPostingCache jobPostingCache;
+    private final JsonResponseCache jsonResponseCache;
+    private final JobPostingMapper jobPostingMapper;
+
+    @Value("${app.jobs.batch.max-size:1000}")
+    private int maxBatchSize;
 
     public JobPostingService(JobPostingRepository jobPostingRepository,
                              EmployerRepository employerRepository,
                              UserRepository userRepository,
-                             EmployerService employerService) {
+                             EmployerService employerService,
+                             JobSearchIndex jobSearchIndex,
+                             PaginationProperties paginationProperties,
+                             JobPostingBatchRepository jobPostingBatchRepository,
+                             Validator validator,
+                             JobPostingCache jobPostingCache,
+                             JsonResponseCache jsonResponseCache,
+                             JobPostingMapper jobPostingMapper) {
         this.jobPostingRepository = jobPostingRepository;
         this.employerRepository = employerRepository;
         this.userRepository = userRepository;
         this.employerService = employerService;
-    }
-
-    // --- Mapper (Simple conversion from DTO to Entity) ---
-    private JobPosting mapToEntity(JobPostingDto jobPostingDto, Employer employer) {
-        JobPosting job = new JobPosting();
-        job.setJobTitle(jobPostingDto.getJobTitle());
-        job.setJobPosition(jobPostingDto.getJobPosition());
-        job.setDescription(jobPostingDto.getDescription());
-        job.setRequiredSkills(jobPostingDto.getRequiredSkills());
-        job.setLocation(jobPostingDto.getLocation());
-        job.setExperienceLevel(jobPostingDto.getExperienceLevel());
-        job.setFunctionalArea(jobPostingDto.getFunctionalArea());
-        job.setIndustry(jobPostingDto.getIndustry());
-        job.setSalaryDetails(jobPostingDto.getSalaryDetails());
-        job.setEmployer(employer); // Set the posting employer
-        job.setDatePosted(LocalDate.now());
-        job.setIsActive(true);
-        return job;
-    }
-
-    private JobPostingDto mapToDTO(JobPosting jobPosting) {
-        JobPostingDto dto = new JobPostingDto();
-        dto.setId(jobPosting.getId());
-        dto.setJobTitle(jobPosting.getJobTitle());
-        dto.setJobPosition(jobPosting.getJobPosition());
-        dto.setDescription(jobPosting.getDescription());
-        dto.setRequiredSkills(jobPosting.getRequiredSkills());
-        dto.setLocation(jobPosting.getLocation());
-        dto.setExperienceLevel(jobPosting.getExperienceLevel());
-        dto.setFunctionalArea(jobPosting.getFunctionalArea());
-        dto.setIndustry(jobPosting.getIndustry());
-        dto.setSalaryDetails(jobPosting.getSalaryDetails());
-        dto.setDatePosted(jobPosting.getDatePosted());
-        dto.setIsActive(jobPosting.getIsActive());
-        dto.setApplicationCount(0L); // Will be set by controller if needed
-        return dto;
+        this.jobSearchIndex = jobSearchIndex;
+        this.paginationProperties = paginationProperties;
+        this.jobPostingBatchRepository = jobPostingBatchRepository;
+        this.validator = validator;
+        this.jobPostingCache = jobPostingCache;
+        this.jsonResponseCache = jsonResponseCache;
+        this.jobPostingMapper = jobPostingMapper;
     }
 
     // --- Core Business Logic Methods ---
 
     /** Posts a new job listing */
     @Transactional
+    @Timed(value = "careerportal.jobs", extraTags = {"operation", "create"})
     public JobPostingDto createJobPosting(String username, JobPostingDto jobPostingDto) {
         try {
             logger.info("Creating job posting for username: {}", username);
-            logger.info("Job posting data: {}", jobPostingDto);
 
-            // 1. Get the authenticated User
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
-            logger.info("Found user: {} with ID: {}", user.getUsername(), user.getId());
+            // 1. Resolve the Employer profile of the authenticated User (one query joining users)
+            Employer employer = resolveEmployer(username);
 
-            // 2. Get or create the Employer profile linked to this User
-            Employer employer = employerService.getOrCreateEmployerProfile(user);
-            logger.info("Found/Created employer: {} with ID: {}", employer.getCompanyName(), employer.getId());
-
-            // 3. Convert DTO to Entity and save
-            JobPosting newJob = mapToEntity(jobPostingDto, employer);
-            logger.info("Mapped job posting entity: {}", newJob);
-            
-            JobPosting savedJob = jobPostingRepository.save(newJob);
-            logger.info("Saved job posting with ID: {}", savedJob.getId());
-
-            // Verify the job was actually saved by fetching it again
-            JobPosting verifyJob = jobPostingRepository.findById(savedJob.getId()).orElse(null);
-            if (verifyJob != null) {
-                logger.info("Verification successful: Job posting exists in database with ID: {}", verifyJob.getId());
-            } else {
-                logger.error("Verification failed: Job posting not found in database after save");
-            }
+            // 2. Convert DTO to Entity and save (the insert is the only other statement; save returns the persisted row)
+            JobPosting savedJob = jobPostingRepository.save(jobPostingMapper.toEntity(jobPostingDto, employer));
+            logger.info("Saved job posting with ID: {} for employer ID: {}", savedJob.getId(), employer.getId());
+            AfterCommit.run(() -> jobSearchIndex.index(savedJob));
+            jobPostingCache.invalidatePages();
+            jsonResponseCache.invalidate(JsonResponseCache.JOBS);
 
-            JobPostingDto result = mapToDTO(savedJob);
-            logger.info("Returning job posting DTO: {}", result);
-            
-            return result;
+            return jobPostingMapper.toDto(savedJob);
         } catch (Exception e) {
             logger.error("Error creating job posting for username: {}", username, e);
             throw e;
         }
     }
 
-    /** Gets all job listings (public view) */
-    public List<JobPostingDto> getAllJobPostings() {
-        logger.info("Fetching all job postings from database");
-        List<JobPosting> jobs = jobPostingRepository.findAll();
-        logger.info("Found {} job postings in database", jobs.size());
-        
-        // Log each job for debugging
-        for (JobPosting job : jobs) {
-            logger.info("Job ID: {}, Title: {}, Employer: {}", 
-                job.getId(), job.getJobTitle(), 
-                job.getEmployer() != null ? job.getEmployer().getCompanyName() : "null");
+    /** Posts many job listings at once; every posting is validated before anything is inserted */
+    @Transactional
+    @Timed(value = "careerportal.jobs", extraTags = {"operation", "create-batch"})
+    public List<JobPostingDto> createJobPostings(String username, List<JobPostingDto> jobPostingDtos) {
+        if (jobPostingDtos == null || jobPostingDtos.isEmpty()) {
+            throw new BadRequestException("At least one job posting is required");
+        }
+        if (jobPostingDtos.size() > maxBatchSize) {
+            throw new BadRequestException("A batch can contain at most " + maxBatchSize + " job postings");
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < jobPostingDtos.size(); i++) {
+            errors.addAll(validate(jobPostingDtos.get(i), "jobs[" + i + "]"));
+        }
+        if (!errors.isEmpty()) {
+            throw new BadRequestException(String.join("; ", errors));
         }
-        
-        return jobs.stream().map(this::mapToDTO).collect(Collectors.toList());
+
+        Employer employer = resolveEmployer(username);
+        List<JobPosting> jobs = jobPostingDtos.stream()
+                .map(dto -> jobPostingMapper.toEntity(dto, employer))
+                .collect(Collectors.toList());
+        insertBatch(jobs);
+        logger.info("Batch-inserted {} job postings for employer ID: {}", jobs.size(), employer.getId());
+
+        return jobs.stream().map(jobPostingMapper::toDto).collect(Collectors.toList());
     }
 
-    public List<JobPostingDto> searchJobPostings(String keyword, String location, String experienceLevel) {
+    /** Inserts already validated postings for the employer in one transaction; used by the bulk import */
+    @Transactional
+    @Timed(value = "careerportal.jobs", extraTags = {"operation", "import-batch"})
+    public int insertJobPostings(Employer employer, List<JobPostingDto> jobPostingDtos) {
+        List<JobPosting> jobs = jobPostingDtos.stream()
+                .map(dto -> jobPostingMapper.toEntity(dto, employer))
+                .collect(Collectors.toList());
+        insertBatch(jobs);
+        return jobs.size();
+    }
+
+    /** Checks a posting against the JobPostingDto constraints; returns "[<prefix>.]<field>: <message>" entries */
+    public List<String> validate(JobPostingDto jobPostingDto, String prefix) {
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<JobPostingDto> violation : validator.validate(jobPostingDto)) {
+            errors.add((prefix != null ? prefix + "." : "") + violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        return errors;
+    }
+
+    /** Employer of the given user, created with default values on first use (same as the single create path) */
+    public Employer resolveEmployer(String username) {
+        return employerRepository.findByUser_Username(username)
+                .orElseGet(() -> employerService.getOrCreateEmployerProfile(userRepository.findByUsername(username)
+                        .orElseThrow(() -> new ResourceNotFoundException("User", "username", username))));
+    }
+
+    // JDBC-batched insert; the generated ids are set on the entities, which join the search index once the batch commits
+    private void insertBatch(List<JobPosting> jobs) {
+        jobPostingBatchRepository.insertAll(jobs);
+        AfterCommit.run(() -> {
+            for (JobPosting job : jobs) {
+                jobSearchIndex.index(job);
+            }
+        });
+        jobPostingCache.invalidatePages();
+        jsonResponseCache.invalidate(JsonResponseCache.JOBS);
+    }
+
+    /** Gets one page of all job listings (public view); served from the page cache when possible */
+    @Timed(value = "careerportal.jobs", extraTags = {"operation", "list"})
+    public PagedResponse<JobPostingDto> getAllJobPostings(Integer page, Integer size) {
+        Pageable pageable = PageRequest.of(paginationProperties.resolvePage(page),
+                paginationProperties.resolvePageSize(size), KEYSET_SORT);
+        return jobPostingCache.getPage("all|" + pageable.getPageNumber() + "|" + pageable.getPageSize(),
+                () -> loadAllJobPostings(pageable));
+    }
+
+    private PagedResponse<JobPostingDto> loadAllJobPostings(Pageable pageable) {
+        logger.info("Fetching job postings page {} (size {}) from database", pageable.getPageNumber(), pageable.getPageSize());
+        Page<JobPosting> jobs = jobPostingRepository.findAll(pageable);
+        logger.info("Found {} job postings in database", jobs.getTotalElements());
+
+        PagedResponse<JobPostingDto> response = PagedResponse.fromPage(jobs,
+                jobs.getContent().stream().map(jobPostingMapper::toDto).collect(Collectors.toList()));
+        if (jobs.hasNext()) {
+            response.setNextCursor(encodeCursor(jobs.getContent().get(jobs.getNumberOfElements() - 1)));
+        }
+        return response;
+    }
+
+    /**
+     * Searches active job postings one page at a time.
+     * When a cursor ("after") is given the page is fetched by seeking past it on (datePosted, id)
+     * instead of using an OFFSET, so deep pages cost the same as the first one; the cursor only exists
+     * in the newest-first order, so combining it with another sort is rejected.
+     * Results are cached per normalized query until the next job posting write.
+     */
+    @Timed(value = "careerportal.jobs", extraTags = {"operation", "search"})
+    public PagedResponse<JobPostingDto> searchJobPostings(String keyword, String location, String experienceLevel,
+                                                          Integer page, Integer size, String sort, String after,
+                                                          boolean includeFacets) {
+        String queryKey = String.join("|", "search", lowerCase(keyword), lowerCase(location), String.valueOf(experienceLevel),
+                String.valueOf(paginationProperties.resolvePage(page)), String.valueOf(paginationProperties.resolvePageSize(size)),
+                String.valueOf(sort), String.valueOf(after), String.valueOf(includeFacets));
+        return jobPostingCache.getPage(queryKey,
+                () -> loadJobPostings(keyword, location, experienceLevel, page, size, sort, after, includeFacets));
+    }
+
+    // Keyword and location are matched case-insensitively, so "Java" and "java" share a cache entry
+    private static String lowerCase(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : "";
+    }
+
+    private PagedResponse<JobPostingDto> loadJobPostings(String keyword, String location, String experienceLevel,
+                                                         Integer page, Integer size, String sort, String after,
+                                                         boolean includeFacets) {
+        PagedResponse<JobPostingDto> response = findJobPostingsPage(keyword, location, experienceLevel, page, size, sort, after);
+
+        // Facet counts cover the whole matching set, not just this page
+        if (includeFacets && jobSearchIndex.isReady()) {
+            response.setFacets(jobSearchIndex.facets(keyword, location, experienceLevel));
+        }
+        return response;
+    }
+
+    private PagedResponse<JobPostingDto> findJobPostingsPage(String keyword, String location, String experienceLevel,
+                                                             Integer page, Integer size, String sort, String after) {
+        int pageNumber = paginationProperties.resolvePage(page);
+        int pageSize = paginationProperties.resolvePageSize(size);
+        boolean relevance = !StringUtils.hasText(sort) || RELEVANCE_SORT.equalsIgnoreCase(sort);
+        Sort resolvedSort = resolveSort(sort);
+        // The cursor is a position in the newest-first order; any other order would be silently ignored
+        if (StringUtils.hasText(after) && (!resolvedSort.equals(KEYSET_SORT) || RELEVANCE_SORT.equalsIgnoreCase(sort))) {
+            throw new BadRequestException("The 'after' cursor pages by datePosted,desc and cannot be combined with sort=" + sort);
+        }
+
+        // Keyword searches are sorted and paged in the in-memory index; the database only loads the rows of the page
+        if (StringUtils.hasText(keyword) && jobSearchIndex.isReady()) {
+            if (StringUtils.hasText(after)) {
+                JobPosting cursor = decodeCursor(after);
+                List<Long> ids = jobSearchIndex.seek(keyword, location, experienceLevel,
+                        cursor.getDatePosted(), cursor.getId(), pageSize + 1);
+                return keysetPage(loadInOrder(ids), pageSize);
+            }
+            // Relevance is the default order for keyword searches
+            if (relevance) {
+                return rankJobPostings(keyword, location, experienceLevel, pageNumber, pageSize);
+            }
+            Sort.Order order = resolvedSort.iterator().next();
+            SearchHits hits = jobSearchIndex.page(keyword, location, experienceLevel, INDEX_SORT_FIELDS.get(order.getProperty()),
+                    order.isAscending(), (int) Math.min((long) pageNumber * pageSize, Integer.MAX_VALUE), pageSize);
+            List<JobPosting> jobs = loadInOrder(hits.getIds());
+            PagedResponse<JobPostingDto> response = indexedPage(jobs, hits.getTotalHits(), pageNumber, pageSize);
+            if (!response.isLast() && !jobs.isEmpty() && resolvedSort.equals(KEYSET_SORT)) {
+                response.setNextCursor(encodeCursor(jobs.get(jobs.size() - 1)));
+            }
+            return response;
+        }
 
         // Create the dynamic specification
         Specification<JobPosting> spec = JobSpecification.filterJobs(keyword, location, experienceLevel);
 
-        // Use the findAll method from JpaSpecificationExecutor
-        List<JobPosting> jobs = jobPostingRepository.findAll(spec);
+        if (StringUtils.hasText(after)) {
+            return seekJobPostings(spec, after, pageSize);
+        }
+
+        Page<JobPosting> jobs = jobPostingRepository.findAll(spec, PageRequest.of(pageNumber, pageSize, resolvedSort));
+
+        PagedResponse<JobPostingDto> response = PagedResponse.fromPage(jobs,
+                jobs.getContent().stream().map(jobPostingMapper::toDto).collect(Collectors.toList()));
+        if (jobs.hasNext() && resolvedSort.equals(KEYSET_SORT)) {
+            response.setNextCursor(encodeCursor(jobs.getContent().get(jobs.getNumberOfElements() - 1)));
+        }
+        return response;
+    }
+
+    /** Typeahead completions for job titles, skills and locations, served from the in-memory index */
+    @Timed(value = "careerportal.jobs", extraTags = {"operation", "suggest"})
+    public List<SuggestionDto> suggest(String prefix, Integer limit) {
+        if (!StringUtils.hasText(prefix) || !jobSearchIndex.isReady()) {
+            return new ArrayList<>();
+        }
+        int resolvedLimit = limit == null || limit <= 0 ? DEFAULT_SUGGESTIONS : Math.min(limit, MAX_SUGGESTIONS);
+        return jobSearchIndex.suggest(prefix, resolvedLimit);
+    }
+
+    // Ranks matches in the index, keeps only the top (page + 1) * size and loads just the rows of the requested page
+    private PagedResponse<JobPostingDto> rankJobPostings(String keyword, String location, String experienceLevel,
+                                                         int page, int pageSize) {
+        int limit = (int) Math.min((long) (page + 1) * pageSize, Integer.MAX_VALUE);
+        SearchHits hits = jobSearchIndex.rank(keyword, location, experienceLevel, limit);
+
+        List<Long> ranked = hits.getIds();
+        int from = (int) Math.min((long) page * pageSize, ranked.size());
+        return indexedPage(loadInOrder(ranked.subList(from, ranked.size())), hits.getTotalHits(), page, pageSize);
+    }
+
+    // Loads the rows of one page of index hits by primary key, in the order of the ids
+    private List<JobPosting> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // findAllById does not keep the requested order, so put the rows back in index order
+        Map<Long, JobPosting> jobsById = new HashMap<>();
+        for (JobPosting job : jobPostingRepository.findAllById(ids)) {
+            jobsById.put(job.getId(), job);
+        }
+        List<JobPosting> jobs = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            JobPosting job = jobsById.get(id);
+            if (job != null) {
+                jobs.add(job);
+            }
+        }
+        return jobs;
+    }
+
+    private PagedResponse<JobPostingDto> indexedPage(List<JobPosting> jobs, int totalHits, int page, int pageSize) {
+        PagedResponse<JobPostingDto> response = new PagedResponse<>();
+        response.setContent(jobs.stream().map(jobPostingMapper::toDto).collect(Collectors.toList()));
+        response.setPage(page);
+        response.setSize(pageSize);
+        response.setTotalElements((long) totalHits);
+        response.setTotalPages((totalHits + pageSize - 1) / pageSize);
+        response.setLast((long) (page + 1) * pageSize >= totalHits);
+        return response;
+    }
+
+    // Fetches one page after the cursor; reads pageSize + 1 rows to learn whether another page exists without a COUNT
+    private PagedResponse<JobPostingDto> seekJobPostings(Specification<JobPosting> spec, String after, int pageSize) {
+        JobPosting cursor = decodeCursor(after);
+        Specification<JobPosting> seekSpec = spec.and(JobSpecification.postedBefore(cursor.getDatePosted(), cursor.getId()));
 
-        return jobs.stream().map(this::mapToDTO).collect(Collectors.toList());
+        List<JobPosting> jobs = jobPostingRepository.findBy(seekSpec,
+                query -> query.sortBy(KEYSET_SORT).limit(pageSize + 1).all());
+        return keysetPage(jobs, pageSize);
+    }
+
+    // Page of up to pageSize + 1 rows in keyset order; the extra row only signals that another page exists
+    private PagedResponse<JobPostingDto> keysetPage(List<JobPosting> jobs, int pageSize) {
+        boolean hasMore = jobs.size() > pageSize;
+        if (hasMore) {
+            jobs = jobs.subList(0, pageSize);
+        }
+
+        PagedResponse<JobPostingDto> response = new PagedResponse<>();
+        response.setContent(jobs.stream().map(jobPostingMapper::toDto).collect(Collectors.toList()));
+        response.setSize(pageSize);
+        response.setLast(!hasMore);
+        if (hasMore) {
+            response.setNextCursor(encodeCursor(jobs.get(jobs.size() - 1)));
+        }
+        return response;
+    }
+
+    // Parses "field,direction" against a whitelist of sortable columns; id is always the final tie-breaker
+    private Sort resolveSort(String sort) {
+        if (!StringUtils.hasText(sort) || RELEVANCE_SORT.equalsIgnoreCase(sort)) {
+            return KEYSET_SORT;
+        }
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (!SORTABLE_FIELDS.contains(property)) {
+            throw new BadRequestException("Cannot sort job postings by '" + property + "'. Allowed: " + SORTABLE_FIELDS);
+        }
+        Sort.Direction direction = parts.length > 1 && parts[1].trim().equalsIgnoreCase("asc")
+                ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort resolved = Sort.by(direction, property);
+        return property.equals("id") ? resolved : resolved.and(Sort.by(direction, "id"));
+    }
+
+    // Cursor format: <datePosted ISO date>_<id> of the last row on the previous page
+    private String encodeCursor(JobPosting job) {
+        return job.getDatePosted() + "_" + job.getId();
+    }
+
+    private JobPosting decodeCursor(String after) {
+        try {
+            String[] parts = after.split("_");
+            JobPosting cursor = new JobPosting();
+            cursor.setDatePosted(LocalDate.parse(parts[0]));
+            cursor.setId(Long.parseLong(parts[1]));
+            return cursor;
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor: " + after);
+        }
     }
 
     /** Gets all job postings for a specific employer */
+    @Timed(value = "careerportal.jobs", extraTags = {"operation", "list-by-employer"})
     public List<JobPostingDto> getJobPostingsByEmployer(String username) {
         try {
             logger.info("Fetching job postings for employer username: {}", username);
             
-            // 1. Get the authenticated User
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
-            logger.info("Found user: {} with ID: {}", user.getUsername(), user.getId());
-
-            // 2. Get the Employer profile linked to this User
-            Employer employer = employerRepository.findByUser_Id(user.getId())
+            // 1. Get the Employer profile of the authenticated User (one query joining users)
+            Employer employer = employerRepository.findByUser_Username(username)
                     .orElseThrow(() -> new ResourceNotFoundException("Employer profile not found for user: " + username));
             logger.info("Found employer: {} with ID: {}", employer.getCompanyName(), employer.getId());
 
-            // 3. Get all job postings for this employer
+            // 2. Get all job postings for this employer
             List<JobPosting> jobs = jobPostingRepository.findByEmployer_Id(employer.getId());
             logger.info("Found {} job postings for employer: {}", jobs.size(), employer.getCompanyName());
             
@@ -170,15 +432,25 @@ public class JobPostingService {
                     job.getId(), job.getJobTitle(), job.getDatePosted(), job.getIsActive());
             }
             
-            return jobs.stream().map(this::mapToDTO).collect(Collectors.toList());
+            // The employer sees the denormalized application counter of their own postings
+            return jobs.stream().map(job -> {
+                JobPostingDto dto = jobPostingMapper.toDto(job);
+                dto.setApplicationCount(job.getApplicationCount() != null ? job.getApplicationCount() : 0L);
+                return dto;
+            }).collect(Collectors.toList());
         } catch (Exception e) {
             logger.error("Error fetching job postings for employer username: {}", username, e);
             throw e;
         }
     }
 
-    /** Gets a job posting by ID */
+    /** Gets a job posting by ID; repeated reads are served from the cache */
+    @Timed(value = "careerportal.jobs", extraTags = {"operation", "get"})
     public JobPostingDto getJobById(Long jobId) {
+        return jobPostingCache.getJob(jobId, () -> loadJobById(jobId));
+    }
+
+    private JobPostingDto loadJobById(Long jobId) {
         try {
             logger.info("Fetching job posting with ID: {}", jobId);
             
@@ -186,7 +458,7 @@ public class JobPostingService {
                     .orElseThrow(() -> new ResourceNotFoundException("Job posting"));
             
             logger.info("Found job posting: {}", jobPosting.getJobTitle());
-            return mapToDTO(jobPosting);
+            return jobPostingMapper.toDto(jobPosting);
             
         } catch (Exception e) {
             logger.error("Error fetching job posting with ID: {}", jobId, e);
@@ -196,6 +468,7 @@ public class JobPostingService {
 
     /** Updates a job posting (only by the employer who created it) */
     @Transactional
+    @Timed(value = "careerportal.jobs", extraTags = {"operation", "update"})
     public JobPostingDto updateJobPosting(Long jobId, String username, JobPostingDto jobPostingDto) {
         try {
             logger.info("Updating job posting with ID: {} for username: {} with data: {}", jobId, username, jobPostingDto);
@@ -232,9 +505,12 @@ public class JobPostingService {
             
             // 5. Save the updated job posting
             JobPosting updatedJobPosting = jobPostingRepository.save(jobPosting);
+            AfterCommit.run(() -> jobSearchIndex.index(updatedJobPosting));
+            jobPostingCache.invalidateJob(jobId);
+            jsonResponseCache.invalidate(JsonResponseCache.JOBS);
             logger.info("Successfully updated job posting with ID: {}", jobId);
             
-            return mapToDTO(updatedJobPosting);
+            return jobPostingMapper.toDto(updatedJobPosting);
             
         } catch (Exception e) {
             logger.error("Error updating job posting with ID: {} for username: {}", jobId, username, e);
@@ -244,6 +520,7 @@ public class JobPostingService {
 
     /** Deletes a job posting (only by the employer who created it) */
     @Transactional
+    @Timed(value = "careerportal.jobs", extraTags = {"operation", "delete"})
     public void deleteJobPosting(Long jobId, String username) {
         try {
             logger.info("Deleting job posting with ID: {} for username: {}", jobId, username);
@@ -268,6 +545,9 @@ public class JobPostingService {
             
             // 4. Delete the job posting
             jobPostingRepository.delete(jobPosting);
+            AfterCommit.run(() -> jobSearchIndex.remove(jobId));
+            jobPostingCache.invalidateJob(jobId);
+            jsonResponseCache.invalidate(JsonResponseCache.JOBS);
             logger.info("Successfully deleted job posting with ID: {}", jobId);
             
         } catch (Exception e) {
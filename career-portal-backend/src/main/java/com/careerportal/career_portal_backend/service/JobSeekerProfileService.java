@@ -25,13 +25,19 @@ public class JobSeekerProfileService {
     private final JobSeekerProfileRepository profileRepository;
     private final UserRepository userRepository;
     private final EducationDetailRepository educationDetailRepository;
+    private final FileStorageService fileStorageService;
+    private final JsonResponseCache jsonResponseCache;
 
     public JobSeekerProfileService(JobSeekerProfileRepository profileRepository,
                                    UserRepository userRepository,
-                                   EducationDetailRepository educationDetailRepository) {
+                                   EducationDetailRepository educationDetailRepository,
+                                   FileStorageService fileStorageService,
+                                   JsonResponseCache jsonResponseCache) {
         this.profileRepository = profileRepository;
         this.userRepository = userRepository;
         this.educationDetailRepository = educationDetailRepository;
+        this.fileStorageService = fileStorageService;
+        this.jsonResponseCache = jsonResponseCache;
     }
 
     /**
@@ -55,6 +61,9 @@ public class JobSeekerProfileService {
         profile.setPhotoFilePath(registerDto.getPhotoFilePath());
         
         JobSeekerProfile savedProfile = profileRepository.save(profile);
+        fileStorageService.addReference(savedProfile.getResumeFilePath());
+        fileStorageService.addReference(savedProfile.getPhotoFilePath());
+        jsonResponseCache.invalidate(JsonResponseCache.JOB_SEEKERS);
         logger.info("Created job seeker profile with ID: {} for user: {}", savedProfile.getId(), user.getUsername());
         
         return savedProfile;
@@ -86,7 +95,9 @@ public class JobSeekerProfileService {
         profile.setWorkExperience("Please Update Work Experience");
         profile.setSkills("Please Update Skills");
         
-        return profileRepository.save(profile);
+        JobSeekerProfile savedProfile = profileRepository.save(profile);
+        jsonResponseCache.invalidate(JsonResponseCache.JOB_SEEKERS);
+        return savedProfile;
     }
 
     // --- Mapper Methods (Updated for new structure) ---
@@ -166,6 +177,9 @@ public class JobSeekerProfileService {
         profile.setEducation(profileDto.getEducation());
         profile.setWorkExperience(profileDto.getWorkExperience());
         profile.setSkills(profileDto.getSkills());
+        // Keep the stored file reference counts in step with the paths this profile points at
+        fileStorageService.replaceReference(profile.getResumeFilePath(), profileDto.getResumeFilePath());
+        fileStorageService.replaceReference(profile.getPhotoFilePath(), profileDto.getPhotoFilePath());
         profile.setResumeFilePath(profileDto.getResumeFilePath());
         profile.setPhotoFilePath(profileDto.getPhotoFilePath());
 
@@ -190,6 +204,7 @@ public class JobSeekerProfileService {
         }
 
         JobSeekerProfile updatedProfile = profileRepository.save(profile);
+        jsonResponseCache.invalidate(JsonResponseCache.JOB_SEEKERS);
         return mapToDTO(updatedProfile);
     }
 }
@@ -1,32 +1,110 @@
 package com.careerportal.career_portal_backend.service;
 
+import com.careerportal.career_portal_backend.config.PaginationProperties;
 import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.execption.BadRequestException;
+import com.careerportal.career_portal_backend.payload.JobSeekerDto;
+import com.careerportal.career_portal_backend.repository.JobSeekerDirectoryRepository;
 import com.careerportal.career_portal_backend.repository.JobSeekerProfileRepository;
+import com.careerportal.career_portal_backend.specifications.LikePatterns;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Locale;
 
 @Service
 public class JobSeekerService {
 
     private static final Logger logger = LoggerFactory.getLogger(JobSeekerService.class);
     private final JobSeekerProfileRepository jobSeekerProfileRepository;
+    private final JobSeekerDirectoryRepository jobSeekerDirectoryRepository;
+    private final PaginationProperties paginationProperties;
+    private final ObjectMapper objectMapper;
+    private final int streamChunkSize;
 
-    public JobSeekerService(JobSeekerProfileRepository jobSeekerProfileRepository) {
+    public JobSeekerService(JobSeekerProfileRepository jobSeekerProfileRepository,
+                            JobSeekerDirectoryRepository jobSeekerDirectoryRepository,
+                            PaginationProperties paginationProperties,
+                            ObjectMapper objectMapper,
+                            @Value("${app.jobseekers.stream.chunk-size:500}") int streamChunkSize) {
         this.jobSeekerProfileRepository = jobSeekerProfileRepository;
+        this.jobSeekerDirectoryRepository = jobSeekerDirectoryRepository;
+        this.paginationProperties = paginationProperties;
+        this.objectMapper = objectMapper;
+        this.streamChunkSize = Math.max(1, streamChunkSize);
     }
 
     /**
-     * Gets all job seeker profiles
+     * Gets one page of job seekers, projected directly into DTOs.
+     * name, email and skills match case-insensitively anywhere in the field; status is FRESHER or EXPERIENCED.
      */
-    public List<JobSeekerProfile> getAllJobSeekers() {
-        logger.info("Fetching all job seekers");
-        
-        List<JobSeekerProfile> jobSeekers = jobSeekerProfileRepository.findAll();
-        
-        logger.info("Returning {} job seekers", jobSeekers.size());
+    public Page<JobSeekerDto> getJobSeekers(String name, String email, String skills, String status,
+                                            Integer page, Integer size) {
+        Pageable pageable = PageRequest.of(paginationProperties.resolvePage(page),
+                paginationProperties.resolvePageSize(size), Sort.by("id"));
+        Page<JobSeekerDto> jobSeekers = jobSeekerProfileRepository.findDirectoryPage(
+                containsPattern(name), containsPattern(email), containsPattern(skills), parseStatus(status), pageable);
+
+        logger.info("Returning {} of {} job seekers", jobSeekers.getNumberOfElements(), jobSeekers.getTotalElements());
         return jobSeekers;
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes every job seeker as a JSON array, in keyset chunks of streamChunkSize rows.
+     * Deliberately not @Transactional: each chunk is its own short query, so no database connection is held
+     * while the response is being written to a slow client, and heap usage is bounded by one chunk.
+     */
+    public long streamAllJobSeekers(OutputStream outputStream) throws IOException {
+        long written = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // Let the servlet buffer decide when to send bytes instead of flushing after every row
+            ObjectWriter writer = objectMapper.writerFor(JobSeekerDto.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            generator.writeStartArray();
+            long afterId = 0;
+            List<JobSeekerDto> chunk;
+            do {
+                chunk = jobSeekerDirectoryRepository.findAfter(afterId, streamChunkSize);
+                for (JobSeekerDto jobSeeker : chunk) {
+                    writer.writeValue(generator, jobSeeker);
+                    written++;
+                }
+                if (!chunk.isEmpty()) {
+                    afterId = chunk.get(chunk.size() - 1).getId();
+                }
+            } while (chunk.size() == streamChunkSize);
+            generator.writeEndArray();
+        }
+        logger.info("Streamed {} job seekers", written);
+        return written;
+    }
+
+    private static String containsPattern(String text) {
+        return StringUtils.hasText(text) ? LikePatterns.contains(text.trim().toLowerCase(Locale.ROOT)) : null;
+    }
+
+    private static JobSeekerProfile.ExperienceStatus parseStatus(String status) {
+        if (!StringUtils.hasText(status)) {
+            return null;
+        }
+        try {
+            return JobSeekerProfile.ExperienceStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unknown status: " + status + " (expected FRESHER or EXPERIENCED)");
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of fully serialized JSON responses for the public listing endpoints.
+ * Each entry holds the UTF-8 body, a gzip copy when the body is large enough, and a strong ETag
+ * (a digest of the body), so a hit is a byte copy and a matching If-None-Match needs no serialization at all.
+ * Keys are "<namespace>|<query>"; the write methods of the owning services drop a whole namespace.
+ */
+@Component
+public class JsonResponseCache {
+
+    public static final String JOBS = "jobs";
+    public static final String EMPLOYERS = "employers";
+    public static final String JOB_SEEKERS = "jobseekers";
+
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final Cache<String, CachedJson> responses;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.cache.responses.gzip-min-bytes:1024}")
+    private int gzipMinBytes;
+
+    public JsonResponseCache(ObjectMapper objectMapper,
+                             @Value("${app.cache.responses.max-bytes:33554432}") long maxBytes,
+                             @Value("${app.cache.responses.ttl-seconds:600}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedJson json) -> json.weight() + key.length() * 2)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /** Cache key for the namespace and query parameters (null parameters are kept distinct from "") */
+    public static String key(String namespace, Object... parts) {
+        StringBuilder key = new StringBuilder(namespace);
+        for (Object part : parts) {
+            key.append('|').append(part);
+        }
+        return key.toString();
+    }
+
+    /** Returns the serialized response for the key, calling the loader and serializing its result on a miss */
+    public CachedJson get(String key, Supplier<?> loader) {
+        return responses.get(key, k -> serialize(loader.get()));
+    }
+
+    /** Drops every cached response of the namespace, now and again once the current transaction has committed */
+    public void invalidate(String namespace) {
+        String prefix = namespace + "|";
+        AfterCommit.runNowAndAfterCommit(() -> responses.asMap().keySet().removeIf(key -> key.startsWith(prefix)));
+    }
+
+    public Cache<String, CachedJson> getCache() {
+        return responses;
+    }
+
+    public CacheStats stats() {
+        return responses.stats();
+    }
+
+    private CachedJson serialize(Object value) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize cached response", e);
+        }
+        byte[] gzipped = body.length >= gzipMinBytes ? gzip(body) : null;
+        return new CachedJson(body, gzipped, etagOf(body));
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] gzipped = buffer.toByteArray();
+        // Incompressible bodies are served as they are
+        return gzipped.length < body.length ? gzipped : null;
+    }
+
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** A serialized response; the arrays are shared between requests and must not be modified */
+    public static final class CachedJson {
+
+        private final byte[] body;
+        private final byte[] gzipBody;
+        private final String etag;
+
+        CachedJson(byte[] body, byte[] gzipBody, String etag) {
+            this.body = body;
+            this.gzipBody = gzipBody;
+            this.etag = etag;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        /** The gzip-compressed body, or null when the body is small or does not compress */
+        public byte[] getGzipBody() {
+            return gzipBody;
+        }
+
+        /** Strong ETag of the identity body */
+        public String getEtag() {
+            return etag;
+        }
+
+        /** Strong ETag of the gzip body (each encoding is a separate representation) */
+        public String getGzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+
+        int weight() {
+            return ENTRY_OVERHEAD + body.length + (gzipBody != null ? gzipBody.length : 0);
+        }
+    }
+}
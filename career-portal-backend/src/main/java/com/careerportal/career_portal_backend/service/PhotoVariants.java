@@ -0,0 +1,37 @@
+package com.careerportal.career_portal_backend.service;
+
+import java.util.Locale;
+
+// Naming of the pre-sized copies of an uploaded photo: photos/<name>.png -> photos/<name>_64.png, photos/<name>_256.png
+public final class PhotoVariants {
+
+    /** Longest edge, in pixels, of the generated variants (the original is always kept) */
+    public static final int[] SIZES = {64, 256};
+
+    private PhotoVariants() {
+    }
+
+    /** True when a variant of this size is generated */
+    public static boolean isSupported(int size) {
+        for (int supported : SIZES) {
+            if (supported == size) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Relative path (or file name) of the variant of the given original */
+    public static String pathFor(String originalPath, int size) {
+        int slash = originalPath.lastIndexOf('/');
+        int dot = originalPath.lastIndexOf('.');
+        String base = dot > slash ? originalPath.substring(0, dot) : originalPath;
+        return base + "_" + size + "." + formatFor(originalPath);
+    }
+
+    /** Image format of the variants: PNG/GIF sources keep transparency as PNG, everything else becomes JPEG */
+    public static String formatFor(String originalPath) {
+        String lower = originalPath.toLowerCase(Locale.ROOT);
+        return lower.endsWith(".png") || lower.endsWith(".gif") ? "png" : "jpg";
+    }
+}
@@ -0,0 +1,84 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.careerportal.career_portal_backend.entity.Role;
+import com.careerportal.career_portal_backend.entity.User;
+import com.careerportal.career_portal_backend.payload.EmployerRegisterDto;
+import com.careerportal.career_portal_backend.payload.JobSeekerRegisterDto;
+import com.careerportal.career_portal_backend.repository.RoleRepository;
+import com.careerportal.career_portal_backend.repository.UserRepository;
+import com.careerportal.career_portal_backend.security.UserDetailsCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+
+/**
+ * Saves a registered user, with an already hashed password, together with its profile.
+ * Each registration is one transaction, so a failed profile insert does not leave a user without a profile.
+ */
+@Service
+public class RegistrationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationService.class);
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final EmployerService employerService;
+    private final JobSeekerProfileService jobSeekerProfileService;
+    private final UserDetailsCache userDetailsCache;
+
+    public RegistrationService(UserRepository userRepository,
+                               RoleRepository roleRepository,
+                               EmployerService employerService,
+                               JobSeekerProfileService jobSeekerProfileService,
+                               UserDetailsCache userDetailsCache) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.employerService = employerService;
+        this.jobSeekerProfileService = jobSeekerProfileService;
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    /** Generic registration; employers get a default profile, job seekers register their profile separately */
+    @Transactional
+    public User registerUser(String username, String roleName, String passwordHash) {
+        User savedUser = saveUser(username, null, passwordHash, roleName);
+        if ("ROLE_EMPLOYER".equals(roleName)) {
+            employerService.createDefaultEmployerProfile(savedUser);
+        }
+        return savedUser;
+    }
+
+    @Transactional
+    public User registerJobSeeker(JobSeekerRegisterDto registerDto, String passwordHash) {
+        User savedUser = saveUser(registerDto.getUsername(), registerDto.getEmail(), passwordHash, "ROLE_JOB_SEEKER");
+        jobSeekerProfileService.createJobSeekerProfile(savedUser, registerDto);
+        return savedUser;
+    }
+
+    @Transactional
+    public User registerEmployer(EmployerRegisterDto registerDto, String passwordHash) {
+        User savedUser = saveUser(registerDto.getUsername(), registerDto.getEmail(), passwordHash, "ROLE_EMPLOYER");
+        employerService.createEmployerProfile(savedUser, registerDto);
+        return savedUser;
+    }
+
+    // The role is created on first use
+    private User saveUser(String username, String email, String passwordHash, String roleName) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword(passwordHash);
+        Role role = roleRepository.findByName(roleName)
+                .orElseGet(() -> roleRepository.save(new Role(roleName)));
+        user.setRoles(Collections.singleton(role));
+
+        User savedUser = userRepository.save(user);
+        // Roles/password were (re)assigned
+        AfterCommit.runNowAndAfterCommit(() -> userDetailsCache.evict(savedUser.getUsername()));
+        logger.info("User {} saved with role {}", savedUser.getUsername(), roleName);
+        return savedUser;
+    }
+}
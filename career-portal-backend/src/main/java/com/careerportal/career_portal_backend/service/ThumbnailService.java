@@ -0,0 +1,184 @@
+package com.careerportal.career_portal_backend.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates the pre-sized variants of uploaded photos (see PhotoVariants) on a small background pool,
+ * so list pages can load 64px avatars instead of the multi-megabyte original.
+ */
+@Service
+public class ThumbnailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailService.class);
+
+    private final FileStorageService fileStorageService;
+    private final ThreadPoolExecutor executor;
+    // Photos with a generation queued or running, so repeat requests for a missing variant do not pile up
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.photos.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    public ThumbnailService(FileStorageService fileStorageService,
+                            @Value("${app.photos.thumbnail-threads:1}") int threads,
+                            @Value("${app.photos.thumbnail-queue-capacity:100}") int queueCapacity) {
+        this.fileStorageService = fileStorageService;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** Queues generation of all variants of a stored photo; a full queue just skips it (variants are made on next request) */
+    public void generateVariantsAsync(String photoPath) {
+        if (photoPath == null || !inProgress.add(photoPath)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generateVariants(photoPath);
+                } finally {
+                    inProgress.remove(photoPath);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inProgress.remove(photoPath);
+            logger.warn("Thumbnail queue is full, skipping variants for {}", photoPath);
+        }
+    }
+
+    /** Writes every missing variant of the photo; identical uploads share a path, so existing variants are reused */
+    public void generateVariants(String photoPath) {
+        int largest = PhotoVariants.SIZES[PhotoVariants.SIZES.length - 1];
+        try {
+            Path original = fileStorageService.locate(photoPath);
+            if (!Files.isRegularFile(original)) {
+                return;
+            }
+            BufferedImage source = readSubsampled(original, largest);
+            if (source == null) {
+                logger.warn("Not a readable image, no variants generated: {}", photoPath);
+                return;
+            }
+            String format = PhotoVariants.formatFor(photoPath);
+            // Largest first, then derive the smaller ones from it (cheaper than rescaling the original each time)
+            for (int i = PhotoVariants.SIZES.length - 1; i >= 0; i--) {
+                int size = PhotoVariants.SIZES[i];
+                String variantPath = PhotoVariants.pathFor(photoPath, size);
+                BufferedImage scaled = scale(source, size, "png".equals(format));
+                if (!Files.exists(fileStorageService.locate(variantPath))) {
+                    write(scaled, format, fileStorageService.shardedPath(variantPath));
+                }
+                source = scaled;
+            }
+            logger.debug("Generated photo variants for {}", photoPath);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Could not generate photo variants for {}", photoPath, e);
+        }
+    }
+
+    // Decodes the image, letting the reader skip pixels when it is far larger than needed (saves memory and time)
+    private static BufferedImage readSubsampled(Path file, int targetSize) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longestEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, longestEdge / (targetSize * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Fits the image into size x size, keeping the aspect ratio; never upscales
+    private static BufferedImage scale(BufferedImage source, int size, boolean keepAlpha) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) size / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage scaled = new BufferedImage(targetWidth, targetHeight,
+                keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    // Written to a temp file and renamed, so a half-written variant is never served
+    private void write(BufferedImage image, String format, Path target) throws IOException {
+        Path temp = fileStorageService.createTempFile();
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(output);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                if ("jpg".equals(format)) {
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    param.setCompressionQuality(jpegQuality);
+                }
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
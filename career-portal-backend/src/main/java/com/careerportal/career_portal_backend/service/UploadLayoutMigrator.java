@@ -0,0 +1,163 @@
+package com.careerportal.career_portal_backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Online migration of uploads from the flat layout (uploads/resumes/<name>) to the sharded one
+ * (uploads/resumes/ab/cd/<name>). Files are moved in small batches on a background thread while the
+ * application keeps serving: FileStorageService.locate() finds a file in either layout, so stored
+ * paths resolve before, during and after the move. The migration is idempotent and can be re-run.
+ */
+@Service
+public class UploadLayoutMigrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadLayoutMigrator.class);
+
+    private static final String[] SUB_DIRECTORIES = {"resumes", "photos"};
+
+    private final FileStorageService fileStorageService;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${app.file.migration.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.file.migration.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.file.migration.pause-ms:200}")
+    private long pauseMillis;
+
+    public UploadLayoutMigrator(FileStorageService fileStorageService) {
+        this.fileStorageService = fileStorageService;
+    }
+
+    /** Starts the migration in the background when app.file.migration.enabled is set */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startIfEnabled() {
+        if (enabled) {
+            start();
+        }
+    }
+
+    /** Starts the migration on a background thread unless one is already running */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                migrateAll();
+            } finally {
+                running.set(false);
+            }
+        }, "upload-layout-migration");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /** Moves every flat file into the sharded layout, one batch at a time; returns the number of files moved */
+    public long migrateAll() {
+        long total = 0;
+        for (String subDirectory : SUB_DIRECTORIES) {
+            // Files that could not be moved are skipped by later batches, so they do not end the scan early
+            Set<Path> failed = new LinkedHashSet<>();
+            int attempted;
+            do {
+                int failedBefore = failed.size();
+                attempted = migrateBatch(subDirectory, failed);
+                int moved = attempted - (failed.size() - failedBefore);
+                total += moved;
+                if (moved > 0) {
+                    logger.info("Upload layout migration: moved {} files from {} ({} so far)", moved, subDirectory, total);
+                }
+                if (attempted > 0) {
+                    pause();
+                }
+            } while (attempted > 0);
+            if (!failed.isEmpty()) {
+                logger.warn("Upload layout migration: {} files in {} stay in the flat layout: {}",
+                        failed.size(), subDirectory, failed);
+            }
+        }
+        logger.info("Upload layout migration finished: {} files moved", total);
+        return total;
+    }
+
+    /** Moves up to batch-size flat files of one sub directory; returns how many were moved */
+    public int migrateBatch(String subDirectory) {
+        Set<Path> failed = new LinkedHashSet<>();
+        return migrateBatch(subDirectory, failed) - failed.size();
+    }
+
+    // Tries up to batch-size flat files not in `failed`; adds the ones that could not be moved and returns the number tried
+    private int migrateBatch(String subDirectory, Set<Path> failed) {
+        Path directory = fileStorageService.getStorageLocation().resolve(subDirectory);
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        // Collect the batch first and close the stream, so the directory is not modified while it is being read
+        List<Path> batch = new ArrayList<>(batchSize);
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+            for (Path entry : entries) {
+                if (!entry.getFileName().toString().startsWith(".") && !failed.contains(entry)) {
+                    batch.add(entry);
+                }
+                if (batch.size() >= batchSize) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Could not list {}", directory, e);
+            return 0;
+        }
+
+        for (Path source : batch) {
+            String storedPath = subDirectory + "/" + source.getFileName();
+            Path target = fileStorageService.shardedPath(storedPath);
+            try {
+                Files.createDirectories(target.getParent());
+                if (Files.exists(target)) {
+                    // Content-addressed names: the same bytes already live in the sharded layout
+                    Files.deleteIfExists(source);
+                } else {
+                    Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+                }
+            } catch (IOException e) {
+                failed.add(source);
+                logger.error("Could not migrate {} to {}", source, target, e);
+            }
+        }
+        return batch.size();
+    }
+
+    // Leaves I/O bandwidth to live traffic between batches
+    private void pause() {
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
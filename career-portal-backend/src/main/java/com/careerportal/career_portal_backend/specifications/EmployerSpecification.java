@@ -0,0 +1,54 @@
+package com.careerportal.career_portal_backend.specifications;
+
+import com.careerportal.career_portal_backend.entity.Employer;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+
+public class EmployerSpecification {
+
+    public static Specification<Employer> filterEmployers(String companyName, String industry, Integer foundedAfter,
+                                                          LocalDate createdAfter) {
+        return (Root<Employer> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) -> {
+
+            Predicate predicate = criteriaBuilder.conjunction(); // Start with a True predicate (AND logic)
+
+            // 1. Company name search (case-insensitive contains, wildcards in the input match literally)
+            if (StringUtils.hasText(companyName)) {
+                String likeName = LikePatterns.contains(companyName.trim().toLowerCase());
+                predicate = criteriaBuilder.and(predicate,
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("companyName")), likeName, LikePatterns.ESCAPE)
+                );
+            }
+
+            // 2. Industry filter: prefix match on the raw column so the idx_employers_industry range scan applies
+            // (MySQL's default collation already compares case-insensitively)
+            if (StringUtils.hasText(industry)) {
+                predicate = criteriaBuilder.and(predicate,
+                        criteriaBuilder.like(root.get("industry"), LikePatterns.startsWith(industry.trim()), LikePatterns.ESCAPE)
+                );
+            }
+
+            // 3. Founded year filter (uses idx_employers_founded)
+            if (foundedAfter != null) {
+                predicate = criteriaBuilder.and(predicate,
+                        criteriaBuilder.greaterThanOrEqualTo(root.get("founded"), foundedAfter)
+                );
+            }
+
+            // 4. Profile created on or after the given day
+            if (createdAfter != null) {
+                predicate = criteriaBuilder.and(predicate,
+                        criteriaBuilder.greaterThanOrEqualTo(root.get("createdAt"), createdAfter.atStartOfDay())
+                );
+            }
+
+            return predicate;
+        };
+    }
+}
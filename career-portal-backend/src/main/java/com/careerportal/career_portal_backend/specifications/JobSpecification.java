@@ -8,6 +8,8 @@ import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDate;
+
 public class JobSpecification {
 
     public static Specification<JobPosting> filterJobs(String keyword, String location, String experienceLevel) {
@@ -17,20 +19,20 @@ public class JobSpecification {
 
             // 1. Keyword Search (Search across multiple fields: title, description, skills)
             if (StringUtils.hasText(keyword)) {
-                String likeKeyword = "%" + keyword.toLowerCase() + "%";
+                String likeKeyword = LikePatterns.contains(keyword.toLowerCase());
                 Predicate keywordPredicate = criteriaBuilder.or(
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("jobTitle")), likeKeyword),
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), likeKeyword),
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("requiredSkills")), likeKeyword)
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("jobTitle")), likeKeyword, LikePatterns.ESCAPE),
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), likeKeyword, LikePatterns.ESCAPE),
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("requiredSkills")), likeKeyword, LikePatterns.ESCAPE)
                 );
                 predicate = criteriaBuilder.and(predicate, keywordPredicate);
             }
 
             // 2. Location Filter
             if (StringUtils.hasText(location)) {
-                String likeLocation = "%" + location.toLowerCase() + "%";
+                String likeLocation = LikePatterns.contains(location.toLowerCase());
                 predicate = criteriaBuilder.and(predicate,
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("location")), likeLocation)
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("location")), likeLocation, LikePatterns.ESCAPE)
                 );
             }
 
@@ -47,4 +49,15 @@ public class JobSpecification {
             return predicate;
         };
     }
-}
\ No newline at end of file
+
+    // Keyset (seek) predicate for ordering by datePosted DESC, id DESC: rows strictly after the cursor
+    public static Specification<JobPosting> postedBefore(LocalDate datePosted, Long id) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.lessThan(root.get("datePosted"), datePosted),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get("datePosted"), datePosted),
+                        criteriaBuilder.lessThan(root.get("id"), id)
+                )
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package com.careerportal.career_portal_backend.specifications;
+
+// Builds LIKE patterns from user input: %, _ and the escape character itself match literally
+public final class LikePatterns {
+
+    // Not a backslash: MySQL would also treat it as a string-literal escape in the rendered ESCAPE clause
+    public static final char ESCAPE = '!';
+
+    private LikePatterns() {
+    }
+
+    public static String contains(String text) {
+        return "%" + escape(text) + "%";
+    }
+
+    public static String startsWith(String text) {
+        return escape(text) + "%";
+    }
+
+    public static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
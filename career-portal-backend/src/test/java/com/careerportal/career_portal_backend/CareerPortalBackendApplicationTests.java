@@ -3,7 +3,8 @@ package com.careerportal.career_portal_backend;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// Requests above the SQL statement budget fail instead of only logging a warning
+@SpringBootTest(properties = {"app.sql-stats.enabled=true", "app.sql-stats.fail-on-budget=true"})
 class CareerPortalBackendApplicationTests {
 
 	@Test
@@ -0,0 +1,46 @@
+package com.careerportal.career_portal_backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityConfigTest {
+
+    private final AuthorizationManager<RequestAuthorizationContext> metricsAccess = ReflectionTestUtils.invokeMethod(
+            new SecurityConfig(null, null, null, new String[]{"127.0.0.1", " 10.0.0.0/8 ", ""}), "metricsScrapeAccess");
+
+    @Test
+    void allowListedAddressesMayScrapeWithoutAToken() {
+        assertThat(granted(anonymous(), "127.0.0.1")).isTrue();
+        assertThat(granted(anonymous(), "10.20.30.40")).isTrue();
+    }
+
+    @Test
+    void otherAddressesAreRefusedUnlessTheUserIsAnAdmin() {
+        assertThat(granted(anonymous(), "203.0.113.7")).isFalse();
+        assertThat(granted(user("ROLE_EMPLOYER"), "203.0.113.7")).isFalse();
+        assertThat(granted(user("ROLE_ADMIN"), "203.0.113.7")).isTrue();
+    }
+
+    private boolean granted(Authentication authentication, String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        request.setRemoteAddr(remoteAddress);
+        return metricsAccess.authorize(() -> authentication, new RequestAuthorizationContext(request)).isGranted();
+    }
+
+    private static Authentication anonymous() {
+        return new AnonymousAuthenticationToken("key", "anonymous", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+    }
+
+    private static Authentication user(String role) {
+        return UsernamePasswordAuthenticationToken.authenticated("user", null, AuthorityUtils.createAuthorityList(role));
+    }
+}
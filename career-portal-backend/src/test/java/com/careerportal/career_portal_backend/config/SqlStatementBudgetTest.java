@@ -0,0 +1,165 @@
+package com.careerportal.career_portal_backend.config;
+
+import com.careerportal.career_portal_backend.entity.Application;
+import com.careerportal.career_portal_backend.entity.Employer;
+import com.careerportal.career_portal_backend.entity.JobPosting;
+import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.entity.User;
+import com.careerportal.career_portal_backend.repository.ApplicationRepository;
+import com.careerportal.career_portal_backend.repository.EmployerRepository;
+import com.careerportal.career_portal_backend.repository.JobPostingRepository;
+import com.careerportal.career_portal_backend.repository.JobSeekerProfileRepository;
+import com.careerportal.career_portal_backend.repository.UserRepository;
+import com.careerportal.career_portal_backend.search.JobSearchIndex;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Listing endpoints over more rows than the budget: an N+1 lazy-loading loop answers 500 instead of 200
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sqlbudget;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "file.upload.dir=target/sql-budget-uploads",
+        "app.sql-stats.enabled=true",
+        "app.sql-stats.budget=" + SqlStatementBudgetTest.BUDGET,
+        "app.sql-stats.fail-on-budget=true"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SqlStatementBudgetTest {
+
+    static final int BUDGET = 10;
+    private static final int ROWS = 30;
+    private static final String EMPLOYER = "budget-employer";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmployerRepository employerRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private JobSeekerProfileRepository jobSeekerProfileRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    private Long appliedJobId;
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < ROWS; i++) {
+            Employer employer = employerRepository.save(employer(user(i == 0 ? EMPLOYER : "employer-" + i), i));
+            JobPosting job = jobPostingRepository.save(job(employer, i));
+            if (i == 0) {
+                appliedJobId = job.getId();
+            }
+        }
+        JobPosting appliedJob = jobPostingRepository.findById(appliedJobId).orElseThrow();
+        for (int i = 0; i < ROWS; i++) {
+            JobSeekerProfile seeker = jobSeekerProfileRepository.save(seeker(user("seeker-" + i), i));
+            Application application = new Application();
+            application.setJobSeekerProfile(seeker);
+            application.setJobPosting(appliedJob);
+            applicationRepository.save(application);
+        }
+        jobSearchIndex.rebuild();
+    }
+
+    @Test
+    void jobListStaysWithinBudget() throws Exception {
+        assertWithinBudget(mockMvc.perform(get("/api/jobs").param("size", String.valueOf(ROWS)))
+                .andExpect(status().isOk()).andReturn());
+    }
+
+    @Test
+    void jobListWithKeywordStaysWithinBudget() throws Exception {
+        assertWithinBudget(mockMvc.perform(get("/api/jobs").param("keyword", "engineer").param("size", String.valueOf(ROWS)))
+                .andExpect(status().isOk()).andReturn());
+    }
+
+    @Test
+    @WithMockUser(username = EMPLOYER, roles = "EMPLOYER")
+    void applicationsForJobStayWithinBudget() throws Exception {
+        assertWithinBudget(mockMvc.perform(get("/api/applications/job/{jobId}", appliedJobId))
+                .andExpect(status().isOk()).andReturn());
+    }
+
+    @Test
+    void employerListStaysWithinBudget() throws Exception {
+        assertWithinBudget(mockMvc.perform(get("/api/employer/all").param("size", String.valueOf(ROWS)))
+                .andExpect(status().isOk()).andReturn());
+    }
+
+    private static void assertWithinBudget(MvcResult result) {
+        String statements = result.getResponse().getHeader("X-SQL-Statements");
+        assertThat(statements).isNotNull();
+        assertThat(Integer.parseInt(statements)).isLessThanOrEqualTo(BUDGET);
+    }
+
+    private User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("{noop}secret");
+        return userRepository.save(user);
+    }
+
+    private static Employer employer(User user, int i) {
+        Employer employer = new Employer();
+        employer.setUser(user);
+        employer.setCompanyName("Company " + i);
+        employer.setEmail("company" + i + "@example.com");
+        employer.setIndustry("Software");
+        return employer;
+    }
+
+    private static JobPosting job(Employer employer, int i) {
+        JobPosting job = new JobPosting();
+        job.setEmployer(employer);
+        job.setJobTitle("Software Engineer " + i);
+        job.setDescription("Builds and runs services");
+        job.setRequiredSkills("Java, SQL");
+        job.setLocation("Berlin");
+        job.setExperienceLevel("Mid");
+        return job;
+    }
+
+    private static JobSeekerProfile seeker(User user, int i) {
+        JobSeekerProfile seeker = new JobSeekerProfile();
+        seeker.setUser(user);
+        seeker.setName("Seeker " + i);
+        seeker.setEmail(user.getEmail());
+        seeker.setMobile("555-" + i);
+        seeker.setStatus(JobSeekerProfile.ExperienceStatus.FRESHER);
+        seeker.setGender(JobSeekerProfile.Gender.OTHER);
+        seeker.setDob(LocalDate.of(1995, 1, 1));
+        seeker.setEducation("BSc");
+        seeker.setSkills("Java");
+        return seeker;
+    }
+}
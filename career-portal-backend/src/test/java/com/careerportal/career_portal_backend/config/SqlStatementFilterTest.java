@@ -0,0 +1,70 @@
+package com.careerportal.career_portal_backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementFilterTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    @Test
+    void requestWithinBudgetKeepsItsBodyAndGetsTheHeaders() throws Exception {
+        MockHttpServletResponse response = run(filter(3, true), 3);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("[\"ok\"]");
+        assertThat(response.getHeader("Content-Length")).isEqualTo("6");
+        assertThat(response.getHeader("X-SQL-Statements")).isEqualTo("3");
+    }
+
+    @Test
+    void requestOverBudgetFailsEvenThoughTheHandlerWroteABody() throws Exception {
+        MockHttpServletResponse response = run(filter(3, true), 4);
+
+        assertThat(response.getStatus()).isEqualTo(500);
+        assertThat(response.getErrorMessage()).isEqualTo("GET /api/jobs issued 4 SQL statements (budget 3)");
+        assertThat(response.getContentAsString()).isEmpty();
+        assertThat(response.getHeader("X-SQL-Statements")).isEqualTo("4");
+    }
+
+    @Test
+    void requestOverBudgetOnlyLogsWithoutFailOnBudget() throws Exception {
+        MockHttpServletResponse response = run(filter(3, false), 4);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("[\"ok\"]");
+        assertThat(response.getHeader("X-SQL-Statements")).isEqualTo("4");
+    }
+
+    private MockHttpServletResponse run(SqlStatementFilter filter, int statements) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain handler = (req, res) -> {
+            for (int i = 0; i < statements; i++) {
+                counter.inspect("select 1");
+            }
+            byte[] body = "[\"ok\"]".getBytes(StandardCharsets.UTF_8);
+            res.setContentLength(body.length);
+            res.getOutputStream().write(body);
+            res.flushBuffer();
+        };
+        filter.doFilter(request, response, handler);
+        return response;
+    }
+
+    private static SqlStatementFilter filter(int budget, boolean failOnBudget) {
+        SqlStatementFilter filter = new SqlStatementFilter(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "budget", budget);
+        ReflectionTestUtils.setField(filter, "failOnBudget", failOnBudget);
+        return filter;
+    }
+}
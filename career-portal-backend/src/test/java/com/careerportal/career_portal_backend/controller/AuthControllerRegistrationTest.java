@@ -0,0 +1,96 @@
+package com.careerportal.career_portal_backend.controller;
+
+import com.careerportal.career_portal_backend.repository.JobSeekerProfileRepository;
+import com.careerportal.career_portal_backend.repository.UserRepository;
+import com.careerportal.career_portal_backend.service.JobSeekerProfileService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:registration;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "file.upload.dir=target/registration-uploads",
+        "app.security.bcrypt.strength=4",
+        "app.sql-stats.enabled=true",
+        "app.sql-stats.fail-on-budget=true"
+})
+@AutoConfigureMockMvc
+class AuthControllerRegistrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobSeekerProfileRepository jobSeekerProfileRepository;
+
+    @MockitoSpyBean
+    private JobSeekerProfileService jobSeekerProfileService;
+
+    @Test
+    void registrationSavesUserAndProfileAndCountsTheStatementsOfBothDispatches() throws Exception {
+        AtomicReference<String> profileThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            profileThread.set(Thread.currentThread().getName());
+            return invocation.callRealMethod();
+        }).when(jobSeekerProfileService).createJobSeekerProfile(any(), any());
+
+        MvcResult result = register("asha");
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(userRepository.findByUsername("asha")).hasValueSatisfying(user ->
+                assertThat(jobSeekerProfileRepository.findByUser_Id(user.getId())).isPresent());
+        // Two lookups on the request thread, the role and the inserts after the hash
+        assertThat(Integer.parseInt(result.getResponse().getHeader("X-SQL-Statements"))).isGreaterThan(2);
+        // The hashing pool only hashes; the database work runs on the application task executor
+        assertThat(profileThread.get()).isNotNull().doesNotStartWith("password-hashing");
+    }
+
+    @Test
+    void failedProfileInsertRollsBackTheUser() throws Exception {
+        doThrow(new IllegalStateException("profile insert failed"))
+                .when(jobSeekerProfileService).createJobSeekerProfile(any(), any());
+
+        MvcResult result = register("ravi");
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(500);
+        assertThat(userRepository.existsByUsername("ravi")).isFalse();
+    }
+
+    private MvcResult register(String username) throws Exception {
+        String body = """
+                {"username": "%1$s", "email": "%1$s@example.com", "password": "secret123",
+                 "name": "%1$s", "mobile": "9876543210", "status": "FRESHER", "gender": "OTHER",
+                 "dob": "1995-01-01", "education": "BSc", "skills": "Java"}
+                """.formatted(username);
+        MvcResult started = mockMvc.perform(post("/api/auth/register/jobseeker")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started)).andExpect(status().is(started.getResponse().getStatus()))
+                .andReturn();
+    }
+}
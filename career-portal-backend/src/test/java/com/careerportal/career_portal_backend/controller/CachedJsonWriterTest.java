@@ -0,0 +1,91 @@
+package com.careerportal.career_portal_backend.controller;
+
+import com.careerportal.career_portal_backend.service.JsonResponseCache;
+import com.careerportal.career_portal_backend.service.JsonResponseCache.CachedJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedJsonWriterTest {
+
+    private final CachedJsonWriter writer = new CachedJsonWriter();
+    private final CachedJson json = cachedJson(List.of("java developer ".repeat(50)));
+
+    @Test
+    void servesTheIdentityBodyWithItsEtag() {
+        ResponseEntity<byte[]> response = writer.toResponse(request(null, null), json);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(json.getBody());
+        assertThat(response.getHeaders().getETag()).isEqualTo(json.getEtag());
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(json.getBody().length);
+        assertThat(response.getHeaders().getFirst("Content-Encoding")).isNull();
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        assertThat(response.getHeaders().getVary()).containsExactly("Accept-Encoding");
+    }
+
+    @Test
+    void servesTheGzipCopyToClientsThatAcceptIt() {
+        for (String acceptEncoding : new String[]{"gzip", "deflate, GZIP;q=0.8, br"}) {
+            ResponseEntity<byte[]> response = writer.toResponse(request(acceptEncoding, null), json);
+
+            assertThat(response.getBody()).as(acceptEncoding).isSameAs(json.getGzipBody());
+            assertThat(response.getHeaders().getFirst("Content-Encoding")).isEqualTo("gzip");
+            assertThat(response.getHeaders().getETag()).isEqualTo(json.getGzipEtag());
+        }
+    }
+
+    @Test
+    void gzipWithZeroQualityOrWithoutACompressedCopyGetsTheIdentityBody() {
+        for (String acceptEncoding : new String[]{"gzip;q=0", "gzip; q=0.00", "deflate, br"}) {
+            assertThat(writer.toResponse(request(acceptEncoding, null), json).getBody())
+                    .as(acceptEncoding).isSameAs(json.getBody());
+        }
+
+        CachedJson small = cachedJson(List.of("x"));
+        assertThat(writer.toResponse(request("gzip", null), small).getBody()).isSameAs(small.getBody());
+    }
+
+    @Test
+    void eitherEncodingsEtagAnswersNotModified() {
+        for (String ifNoneMatch : new String[]{json.getEtag(), json.getGzipEtag(), "W/" + json.getEtag(), "*"}) {
+            ResponseEntity<byte[]> response = writer.toResponse(request("gzip", ifNoneMatch), json);
+
+            assertThat(response.getStatusCode()).as(ifNoneMatch).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getBody()).isNull();
+            assertThat(response.getHeaders().getETag()).isEqualTo(json.getGzipEtag());
+        }
+    }
+
+    @Test
+    void staleEtagGetsTheBody() {
+        ResponseEntity<byte[]> response = writer.toResponse(request(null, "\"0123\""), json);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(json.getBody());
+    }
+
+    private static MockHttpServletRequest request(String acceptEncoding, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs");
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return request;
+    }
+
+    private static CachedJson cachedJson(Object value) {
+        JsonResponseCache cache = new JsonResponseCache(new ObjectMapper(), 1 << 20, 600);
+        ReflectionTestUtils.setField(cache, "gzipMinBytes", 64);
+        return cache.get("jobs|test", () -> value);
+    }
+}
@@ -0,0 +1,202 @@
+package com.careerportal.career_portal_backend.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileResponseWriterTest {
+
+    private static final String CONTENT = "0123456789";
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+    @TempDir
+    Path directory;
+
+    private final FileResponseWriter writer = new FileResponseWriter(new SimpleMeterRegistry());
+    private Path file;
+    private String etag;
+
+    @BeforeEach
+    void createFile() throws IOException {
+        file = Files.writeString(directory.resolve("resume.pdf"), CONTENT, StandardCharsets.US_ASCII);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(LAST_MODIFIED + 789));
+        etag = "\"" + Long.toHexString(LAST_MODIFIED) + "-" + Long.toHexString(CONTENT.length()) + "\"";
+    }
+
+    @Test
+    void writesTheWholeFileWithValidators() throws IOException {
+        MockHttpServletResponse response = write(get());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getHeader("ETag")).isEqualTo(etag);
+        assertThat(response.getDateHeader("Last-Modified")).isEqualTo(LAST_MODIFIED);
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getContentType()).isEqualTo("application/pdf");
+    }
+
+    @Test
+    void missingFileWritesNothing() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(writer.write(get(), response, directory.resolve("missing.pdf"), "application/pdf",
+                "inline", "private")).isFalse();
+        assertThat(writer.write(get(), response, directory, "application/pdf", "inline", "private")).isFalse();
+        assertThat(response.getHeaderNames()).isEmpty();
+    }
+
+    @Test
+    void matchingIfNoneMatchAnswersNotModified() throws IOException {
+        for (String ifNoneMatch : new String[]{etag, "\"other\", " + etag, "W/" + etag, "*"}) {
+            MockHttpServletRequest request = get();
+            request.addHeader("If-None-Match", ifNoneMatch);
+            MockHttpServletResponse response = write(request);
+
+            assertThat(response.getStatus()).as(ifNoneMatch).isEqualTo(304);
+            assertThat(response.getContentAsByteArray()).isEmpty();
+            assertThat(response.getHeader("ETag")).isEqualTo(etag);
+        }
+    }
+
+    @Test
+    void ifNoneMatchTakesPrecedenceOverIfModifiedSince() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader("If-None-Match", "\"stale\"");
+        request.addHeader("If-Modified-Since", LAST_MODIFIED + 60_000);
+
+        assertThat(write(request).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void ifModifiedSinceAtOrAfterTheModificationTimeAnswersNotModified() throws IOException {
+        MockHttpServletRequest unchanged = get();
+        unchanged.addHeader("If-Modified-Since", LAST_MODIFIED);
+        MockHttpServletRequest changed = get();
+        changed.addHeader("If-Modified-Since", LAST_MODIFIED - 1000);
+
+        assertThat(write(unchanged).getStatus()).isEqualTo(304);
+        assertThat(write(changed).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void conditionalHeadersAreIgnoredForOtherMethods() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/uploads/resume.pdf");
+        request.addHeader("If-None-Match", etag);
+
+        assertThat(write(request).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void singleRangeAnswersPartialContent() throws IOException {
+        MockHttpServletResponse response = write(range("bytes=2-5"));
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    void openEndedAndOversizedRangesStopAtTheEndOfTheFile() throws IOException {
+        assertThat(write(range("bytes=7-")).getContentAsString()).isEqualTo("789");
+        MockHttpServletResponse oversized = write(range("bytes=8-100"));
+        assertThat(oversized.getHeader("Content-Range")).isEqualTo("bytes 8-9/10");
+        assertThat(oversized.getContentAsString()).isEqualTo("89");
+    }
+
+    @Test
+    void suffixRangeServesTheLastBytes() throws IOException {
+        MockHttpServletResponse response = write(range("bytes=-3"));
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 7-9/10");
+        assertThat(response.getContentAsString()).isEqualTo("789");
+
+        assertThat(write(range("bytes=-50")).getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void unsatisfiableRangeAnswers416() throws IOException {
+        for (String header : new String[]{"bytes=10-", "bytes=25-30", "bytes=-0"}) {
+            MockHttpServletResponse response = write(range(header));
+
+            assertThat(response.getStatus()).as(header).isEqualTo(416);
+            assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+            assertThat(response.getContentAsByteArray()).isEmpty();
+        }
+    }
+
+    @Test
+    void unsupportedOrMalformedRangesServeTheWholeFile() throws IOException {
+        for (String header : new String[]{"bytes=0-1,4-5", "items=0-1", "bytes=5-2", "bytes=abc", "bytes=3"}) {
+            MockHttpServletResponse response = write(range(header));
+
+            assertThat(response.getStatus()).as(header).isEqualTo(200);
+            assertThat(response.getHeader("Content-Range")).isNull();
+            assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    void ifRangeHonoursTheRangeOnlyForTheCurrentRepresentation() throws IOException {
+        MockHttpServletRequest current = range("bytes=0-1");
+        current.addHeader("If-Range", etag);
+        MockHttpServletRequest stale = range("bytes=0-1");
+        stale.addHeader("If-Range", "\"stale\"");
+        MockHttpServletRequest sameDate = range("bytes=0-1");
+        sameDate.addHeader("If-Range", LAST_MODIFIED);
+
+        assertThat(write(current).getStatus()).isEqualTo(206);
+        assertThat(write(stale).getStatus()).isEqualTo(200);
+        assertThat(write(stale).getContentAsString()).isEqualTo(CONTENT);
+        assertThat(write(sameDate).getStatus()).isEqualTo(206);
+    }
+
+    @Test
+    void headWritesHeadersOnly() throws IOException {
+        MockHttpServletResponse response = write(new MockHttpServletRequest("HEAD", "/uploads/resume.pdf"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void sendfileConnectorGetsTheFileAndRangeAsRequestAttributes() throws IOException {
+        MockHttpServletRequest request = range("bytes=2-5");
+        request.setAttribute("org.apache.tomcat.sendfile.support", true);
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename"))
+                .isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(2L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(6L);
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(writer.write(request, response, file, "application/pdf", "inline", "private, max-age=0")).isTrue();
+        return response;
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/uploads/resume.pdf");
+    }
+
+    private static MockHttpServletRequest range(String header) {
+        MockHttpServletRequest request = get();
+        request.addHeader("Range", header);
+        return request;
+    }
+}
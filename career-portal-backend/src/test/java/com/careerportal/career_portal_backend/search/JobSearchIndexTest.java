@@ -0,0 +1,276 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.entity.JobPosting;
+import com.careerportal.career_portal_backend.repository.JobPostingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobSearchIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = newIndex(null);
+    }
+
+    @Test
+    void everyKeywordTermMustMatch() {
+        index.index(job(1L, "Java Developer", "Spring, SQL", "Backend services", TODAY));
+        index.index(job(2L, "Java Developer", "Jakarta EE", "Backend services", TODAY));
+        index.index(job(3L, "Spring Trainer", "Teaching", "Workshops", TODAY));
+
+        assertThat(index.search("java spring", null, null)).containsExactly(1L);
+        assertThat(index.search("java", null, null)).containsExactly(1L, 2L);
+        assertThat(index.search("java cobol", null, null)).isEmpty();
+    }
+
+    @Test
+    void onlyTheLastTermMatchesAsPrefix() {
+        index.index(job(1L, "JavaScript Developer", "React", "Frontend", TODAY));
+        index.index(job(2L, "Java Developer", "Spring", "Backend", TODAY));
+
+        assertThat(index.search("java", null, null)).containsExactly(1L, 2L);
+        assertThat(index.search("dev", null, null)).containsExactly(1L, 2L);
+        // "java" is not the last term here, so it has to be a whole word
+        assertThat(index.search("java dev", null, null)).containsExactly(2L);
+        // Prefixes only, never substrings
+        assertThat(index.search("script", null, null)).isEmpty();
+    }
+
+    @Test
+    void singleCharacterLastTermIsNotExpanded() {
+        index.index(job(1L, "C Programmer", "C", "Embedded", TODAY));
+        index.index(job(2L, "C++ Programmer", "C++", "Games", TODAY));
+        index.index(job(3L, "Cloud Engineer", "AWS", "Infrastructure", TODAY));
+
+        assertThat(index.search("c", null, null)).containsExactly(1L);
+        assertThat(index.search("C++", null, null)).containsExactly(2L);
+    }
+
+    @Test
+    void locationAndExperienceLevelNarrowTheMatches() {
+        index.index(job(1L, "Java Developer", "Spring", "Backend", TODAY, "Berlin, Germany", "SENIOR"));
+        index.index(job(2L, "Java Developer", "Spring", "Backend", TODAY, "Munich, Germany", "ENTRY"));
+        index.index(job(3L, "Java Developer", "Spring", "Backend", TODAY, "Paris, France", "SENIOR"));
+
+        assertThat(index.search("java", "germany", null)).containsExactly(1L, 2L);
+        assertThat(index.search("java", "GERMANY", "SENIOR")).containsExactly(1L);
+    }
+
+    @Test
+    void experienceLevelIgnoresCaseLikeTheDatabaseFilter() {
+        index.index(job(1L, "Java Developer", "Spring", "Backend", TODAY, "Berlin", "Senior"));
+        index.index(job(2L, "Java Developer", "Spring", "Backend", TODAY, "Berlin", "ENTRY"));
+
+        assertThat(index.search("java", null, "senior")).containsExactly(1L);
+        assertThat(index.search("java", null, " SENIOR ")).containsExactly(1L);
+        assertThat(index.rank("java", null, "entry", 10).getIds()).containsExactly(2L);
+        // Facets keep the indexed spelling
+        assertThat(index.facets("java", null, "SENIOR").get("experienceLevel")).containsExactly(Map.entry("Senior", 1L));
+    }
+
+    @Test
+    void inactiveJobsAreNotIndexed() {
+        JobPosting job = job(1L, "Java Developer", "Spring", "Backend", TODAY);
+        index.index(job);
+        assertThat(index.search("java", null, null)).containsExactly(1L);
+
+        job.setIsActive(false);
+        index.index(job);
+        assertThat(index.search("java", null, null)).isEmpty();
+        assertThat(index.suggest("jav", 10)).isEmpty();
+    }
+
+    @Test
+    void updatesReplaceTheIndexedTextAndRemoveDropsTheJob() {
+        JobPosting job = job(1L, "Java Developer", "Spring", "Backend", TODAY);
+        index.index(job);
+        job.setJobTitle("Go Developer");
+        index.index(job);
+
+        assertThat(index.search("java", null, null)).isEmpty();
+        assertThat(index.search("go", null, null)).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("developer", null, null)).isEmpty();
+    }
+
+    @Test
+    void rankPutsTitleMatchesBeforeDescriptionMatches() {
+        index.index(job(1L, "Office Manager", "Excel", "Occasional kotlin scripting", TODAY));
+        index.index(job(2L, "Kotlin Developer", "Android", "Mobile apps", TODAY));
+        index.index(job(3L, "Android Engineer", "Kotlin", "Mobile apps", TODAY));
+
+        SearchHits hits = index.rank("kotlin", null, null, 10);
+
+        assertThat(hits.getIds()).containsExactly(2L, 3L, 1L);
+        assertThat(hits.getTotalHits()).isEqualTo(3);
+    }
+
+    @Test
+    void rankWeightsRareTermsAboveCommonOnes() {
+        // Both match both terms; "developer" is in every document, so the title match on the rare "rust" wins
+        index.index(job(1L, "Developer", "Java", "Some rust tooling", TODAY));
+        index.index(job(2L, "Rust", "Java", "Developer tooling", TODAY));
+        for (long id = 3; id <= 10; id++) {
+            index.index(job(id, "Developer", "Java", "Backend", TODAY));
+        }
+
+        assertThat(index.rank("developer rust", null, null, 10).getIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void rankPrefersNewerPostingsWhenTextScoresAreEqual() {
+        index.index(job(1L, "Java Developer", "Spring", "Backend", TODAY.minusDays(120)));
+        index.index(job(2L, "Java Developer", "Spring", "Backend", TODAY));
+
+        assertThat(index.rank("java", null, null, 10).getIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void rankKeepsOnlyTheTopLimitButCountsEveryMatch() {
+        for (long id = 1; id <= 50; id++) {
+            index.index(job(id, "Java Developer", "Spring", "Backend", TODAY.minusDays(id)));
+        }
+
+        SearchHits hits = index.rank("java", null, null, 5);
+
+        assertThat(hits.getIds()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(hits.getTotalHits()).isEqualTo(50);
+        assertThat(index.rank("java", null, null, 0).getIds()).isEmpty();
+    }
+
+    @Test
+    void rankScoresThePrefixByItsBestCompletion() {
+        index.index(job(1L, "Sales Representative", "Negotiation", "Develop new accounts", TODAY));
+        index.index(job(2L, "Developer", "Java", "Backend", TODAY));
+
+        assertThat(index.rank("dev", null, null, 10).getIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void pageSortsMatchesInTheIndexAndSkipsTheOffset() {
+        index.index(job(1L, "Java Developer", "Spring", "Backend", TODAY.minusDays(3)));
+        index.index(job(2L, "java architect", "Spring", "Backend", TODAY.minusDays(1)));
+        index.index(job(3L, "Java Consultant", "Spring", "Backend", TODAY.minusDays(2)));
+        index.index(job(4L, "Go Developer", "Docker", "Backend", TODAY));
+
+        SearchHits newestFirst = index.page("java", null, null, JobSearchIndex.SortField.DATE_POSTED, false, 0, 2);
+        assertThat(newestFirst.getIds()).containsExactly(2L, 3L);
+        assertThat(newestFirst.getTotalHits()).isEqualTo(3);
+
+        assertThat(index.page("java", null, null, JobSearchIndex.SortField.DATE_POSTED, false, 2, 2).getIds())
+                .containsExactly(1L);
+        // Titles compare case-insensitively
+        assertThat(index.page("java", null, null, JobSearchIndex.SortField.JOB_TITLE, true, 0, 10).getIds())
+                .containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void pageBreaksTiesByIdInTheSortDirection() {
+        index.index(job(5L, "Java Developer", "Spring", "Backend", TODAY));
+        index.index(job(7L, "Java Developer", "Spring", "Backend", TODAY));
+        index.index(job(6L, "Java Developer", "Spring", "Backend", TODAY));
+
+        assertThat(index.page("java", null, null, JobSearchIndex.SortField.DATE_POSTED, false, 0, 10).getIds())
+                .containsExactly(7L, 6L, 5L);
+        assertThat(index.page("java", null, null, JobSearchIndex.SortField.DATE_POSTED, true, 0, 10).getIds())
+                .containsExactly(5L, 6L, 7L);
+    }
+
+    @Test
+    void seekReturnsTheJobsAfterTheCursorNewestFirst() {
+        index.index(job(1L, "Java Developer", "Spring", "Backend", TODAY.minusDays(2)));
+        index.index(job(2L, "Java Developer", "Spring", "Backend", TODAY.minusDays(1)));
+        index.index(job(3L, "Java Developer", "Spring", "Backend", TODAY.minusDays(1)));
+        index.index(job(4L, "Java Developer", "Spring", "Backend", TODAY));
+
+        // Cursor is the last row of the previous page: (today - 1, id 3)
+        assertThat(index.seek("java", null, null, TODAY.minusDays(1), 3L, 10)).containsExactly(2L, 1L);
+        assertThat(index.seek("java", null, null, TODAY.minusDays(1), 3L, 1)).containsExactly(2L);
+        assertThat(index.seek("java", null, null, TODAY.minusDays(2), 1L, 10)).isEmpty();
+    }
+
+    @Test
+    void facetsCountTheWholeMatchSetPerField() {
+        index.index(job(1L, "Java Developer", "Spring", "Backend", TODAY, "Berlin", "SENIOR"));
+        index.index(job(2L, "Java Developer", "Spring", "Backend", TODAY, "Berlin", "ENTRY"));
+        index.index(job(3L, "Java Developer", "Spring", "Backend", TODAY, "Paris", "SENIOR"));
+        index.index(job(4L, "Go Developer", "Docker", "Backend", TODAY, "Paris", "SENIOR"));
+
+        Map<String, Map<String, Long>> facets = index.facets("java", null, null);
+
+        assertThat(facets.get("location")).containsExactly(Map.entry("Berlin", 2L), Map.entry("Paris", 1L));
+        assertThat(facets.get("experienceLevel")).containsExactly(Map.entry("SENIOR", 2L), Map.entry("ENTRY", 1L));
+        assertThat(facets.get("industry")).containsExactly(Map.entry("Software", 3L));
+
+        // No keyword counts every active job; filters still apply
+        assertThat(index.facets(null, "paris", null).get("experienceLevel")).containsExactly(Map.entry("SENIOR", 2L));
+    }
+
+    @Test
+    void rebuildKeepsMutationsMadeWhileLoading() {
+        JobPostingRepository repository = mock(JobPostingRepository.class);
+        JobSearchIndex rebuilding = newIndex(repository);
+        JobPosting stored = job(1L, "Java Developer", "Spring", "Backend", TODAY);
+        JobPosting createdDuringLoad = job(2L, "Java Architect", "Spring", "Backend", TODAY);
+        JobPosting deletedDuringLoad = job(3L, "Java Tester", "JUnit", "QA", TODAY);
+
+        when(repository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            // A write committed while the table is being read: the loaded page no longer (or not yet) reflects it
+            rebuilding.index(createdDuringLoad);
+            rebuilding.remove(3L);
+            return new PageImpl<>(List.of(stored, deletedDuringLoad));
+        });
+
+        rebuilding.rebuild();
+
+        assertThat(rebuilding.isReady()).isTrue();
+        assertThat(rebuilding.search("java", null, null)).containsExactly(1L, 2L);
+    }
+
+    private static JobSearchIndex newIndex(JobPostingRepository repository) {
+        JobSearchIndex index = new JobSearchIndex(repository);
+        ReflectionTestUtils.setField(index, "titleBoost", 3.0);
+        ReflectionTestUtils.setField(index, "skillsBoost", 2.0);
+        ReflectionTestUtils.setField(index, "descriptionBoost", 1.0);
+        ReflectionTestUtils.setField(index, "recencyBoost", 0.5);
+        ReflectionTestUtils.setField(index, "recencyHalfLifeDays", 30.0);
+        return index;
+    }
+
+    private static JobPosting job(Long id, String title, String skills, String description, LocalDate datePosted) {
+        return job(id, title, skills, description, datePosted, "Remote", "MID");
+    }
+
+    private static JobPosting job(Long id, String title, String skills, String description, LocalDate datePosted,
+                                  String location, String experienceLevel) {
+        JobPosting job = new JobPosting();
+        job.setId(id);
+        job.setJobTitle(title);
+        job.setRequiredSkills(skills);
+        job.setDescription(description);
+        job.setDatePosted(datePosted);
+        job.setLocation(location);
+        job.setExperienceLevel(experienceLevel);
+        job.setIndustry("Software");
+        job.setFunctionalArea("Engineering");
+        job.setIsActive(true);
+        return job;
+    }
+}
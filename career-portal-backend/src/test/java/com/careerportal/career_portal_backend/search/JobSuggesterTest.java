@@ -0,0 +1,101 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.payload.SuggestionDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSuggesterTest {
+
+    private final JobSuggester suggester = new JobSuggester();
+
+    @Test
+    void suggestsCompletionsOfEveryTypeMostFrequentFirst() {
+        suggester.add(JobSuggester.Type.TITLE, "Java Developer");
+        suggester.add(JobSuggester.Type.SKILL, "Java");
+        suggester.add(JobSuggester.Type.SKILL, "java");
+        suggester.add(JobSuggester.Type.SKILL, "JavaScript");
+        suggester.add(JobSuggester.Type.LOCATION, "Jaipur");
+
+        List<SuggestionDto> suggestions = suggester.suggest("ja", 10);
+
+        assertThat(suggestions).extracting(SuggestionDto::getText)
+                .containsExactly("Java", "Jaipur", "Java Developer", "JavaScript");
+        assertThat(suggestions.get(0).getType()).isEqualTo("SKILL");
+        assertThat(suggestions.get(0).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void prefixIsNormalizedAndKeepsTheFirstDisplayCasing() {
+        suggester.add(JobSuggester.Type.LOCATION, " New York ");
+        suggester.add(JobSuggester.Type.LOCATION, "new york");
+
+        assertThat(suggester.suggest("  NEW y", 5)).singleElement()
+                .satisfies(suggestion -> {
+                    assertThat(suggestion.getText()).isEqualTo("New York");
+                    assertThat(suggestion.getCount()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void keepsOnlyTheMostFrequentUpToTheLimit() {
+        for (int i = 0; i < 5; i++) {
+            for (int n = 0; n <= i; n++) {
+                suggester.add(JobSuggester.Type.SKILL, "skill" + i);
+            }
+        }
+
+        assertThat(suggester.suggest("skill", 2)).extracting(SuggestionDto::getText)
+                .containsExactly("skill4", "skill3");
+    }
+
+    @Test
+    void doesNotMatchInsideWordsOrPastThePrefixRange() {
+        suggester.add(JobSuggester.Type.SKILL, "Spring");
+        suggester.add(JobSuggester.Type.SKILL, "Sprint planning");
+        suggester.add(JobSuggester.Type.SKILL, "Boot");
+
+        assertThat(suggester.suggest("sprin", 10)).extracting(SuggestionDto::getText)
+                .containsExactlyInAnyOrder("Spring", "Sprint planning");
+        assertThat(suggester.suggest("oot", 10)).isEmpty();
+    }
+
+    @Test
+    void removeDecrementsAndDropsUnusedEntries() {
+        suggester.add(JobSuggester.Type.TITLE, "Tester");
+        suggester.add(JobSuggester.Type.TITLE, "Tester");
+
+        suggester.remove(JobSuggester.Type.TITLE, "tester");
+        assertThat(suggester.suggest("test", 5)).singleElement()
+                .extracting(SuggestionDto::getCount).isEqualTo(1L);
+
+        suggester.remove(JobSuggester.Type.TITLE, "Tester");
+        assertThat(suggester.suggest("test", 5)).isEmpty();
+
+        suggester.remove(JobSuggester.Type.TITLE, "Tester");
+        assertThat(suggester.suggest("test", 5)).isEmpty();
+    }
+
+    @Test
+    void blankInputsAreIgnored() {
+        suggester.add(JobSuggester.Type.SKILL, "  ");
+        suggester.add(JobSuggester.Type.SKILL, null);
+        suggester.add(JobSuggester.Type.SKILL, "Go");
+
+        assertThat(suggester.suggest(" ", 5)).isEmpty();
+        assertThat(suggester.suggest(null, 5)).isEmpty();
+        assertThat(suggester.suggest("go", 0)).isEmpty();
+    }
+
+    @Test
+    void clearEmptiesEveryDictionary() {
+        suggester.add(JobSuggester.Type.TITLE, "Analyst");
+        suggester.add(JobSuggester.Type.LOCATION, "Amsterdam");
+
+        suggester.clear();
+
+        assertThat(suggester.suggest("a", 5)).isEmpty();
+    }
+}
@@ -0,0 +1,53 @@
+package com.careerportal.career_portal_backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobTextAnalyzerTest {
+
+    @Test
+    void tokenizeLowerCasesAndSplitsOnPunctuation() {
+        assertThat(JobTextAnalyzer.tokenize("Senior Java/Spring-Boot Developer (Remote)"))
+                .containsExactly("senior", "java", "spring", "boot", "developer", "remote");
+    }
+
+    @Test
+    void tokenizeKeepsPlusAndHashInTerms() {
+        assertThat(JobTextAnalyzer.tokenize("C++, C# and .NET")).containsExactly("c++", "c#", "and", "net");
+    }
+
+    @Test
+    void tokenizeKeepsDigitsAndNonAsciiLetters() {
+        assertThat(JobTextAnalyzer.tokenize("HTML5 Entwickler München")).containsExactly("html5", "entwickler", "münchen");
+    }
+
+    @Test
+    void tokenizeReturnsNoTermsForNullOrBlankText() {
+        assertThat(JobTextAnalyzer.tokenize(null)).isEmpty();
+        assertThat(JobTextAnalyzer.tokenize("  ")).isEmpty();
+        assertThat(JobTextAnalyzer.tokenize(" - / ")).isEmpty();
+    }
+
+    @Test
+    void tokenizeDoesNotSplitWordsIntoSubwords() {
+        assertThat(JobTextAnalyzer.tokenize("JavaScript")).containsExactly("javascript");
+    }
+
+    @Test
+    void skillsAreTrimmedLowerCasedAndBlankEntriesDropped() {
+        assertThat(JobTextAnalyzer.skills(" Java, Spring Boot ,,  ,SQL")).containsExactly("java", "spring boot", "sql");
+        assertThat(JobTextAnalyzer.skills(null)).isEmpty();
+    }
+
+    @Test
+    void tokenizeSkillsTokenizesEverySkill() {
+        assertThat(JobTextAnalyzer.tokenizeSkills("Spring Boot, C++")).containsExactly("spring", "boot", "c++");
+    }
+
+    @Test
+    void normalizeTrimsAndLowerCasesNullSafely() {
+        assertThat(JobTextAnalyzer.normalize("  New York ")).isEqualTo("new york");
+        assertThat(JobTextAnalyzer.normalize(null)).isNull();
+    }
+}
@@ -0,0 +1,105 @@
+package com.careerportal.career_portal_backend.security;
+
+import com.careerportal.career_portal_backend.execption.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingExecutor executor;
+
+    // Encoder that holds the pool thread until the test releases it
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void encodeAsyncCompletesWithTheHash() throws Exception {
+        executor = new PasswordHashingExecutor(blockingEncoder, 1, 1, 5_000);
+        CompletableFuture<String> hash = executor.encodeAsync("secret");
+        assertThat(hash).isNotDone();
+
+        release.countDown();
+
+        assertThat(hash.get(5, TimeUnit.SECONDS)).isEqualTo("hash:secret");
+    }
+
+    @Test
+    void fullQueueFailsImmediatelyWithServiceBusy() {
+        executor = new PasswordHashingExecutor(blockingEncoder, 1, 1, 5_000);
+        executor.encodeAsync("running");
+        executor.encodeAsync("queued");
+
+        CompletableFuture<String> rejected = executor.encodeAsync("rejected");
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(rejected).failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(ServiceBusyException.class);
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void hashNotReadyWithinTheWaitTimeoutFailsWithServiceBusy() {
+        executor = new PasswordHashingExecutor(blockingEncoder, 1, 1, 50);
+
+        assertThat(executor.encodeAsync("slow")).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isInstanceOf(ServiceBusyException.class)
+                .withMessageContaining("timed out");
+    }
+
+    @Test
+    void loginNotVerifiedWithinTheWaitTimeoutFailsWithServiceBusy() {
+        executor = new PasswordHashingExecutor(blockingEncoder, 1, 1, 50);
+        executor.encodeAsync("running");
+
+        CompletableFuture<Boolean> queued = executor.submit(() -> blockingEncoder.matches("secret", "hash:secret"));
+
+        assertThat(queued).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isInstanceOf(ServiceBusyException.class)
+                .withMessageContaining("login attempts")
+                .withMessageContaining("timed out");
+        assertThat(executor.getRejectedCount()).isZero();
+    }
+
+    @Test
+    void submitCompletesWithTheTaskResult() throws Exception {
+        executor = new PasswordHashingExecutor(blockingEncoder, 1, 1, 5_000);
+        release.countDown();
+
+        assertThat(executor.submit(() -> "authenticated").get(5, TimeUnit.SECONDS)).isEqualTo("authenticated");
+    }
+}
@@ -0,0 +1,69 @@
+package com.careerportal.career_portal_backend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserDetailsCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final UserDetailsCache cache = new UserDetailsCache(300, 100, nanos::get);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<String, UserDetails> loader = username -> {
+        loads.incrementAndGet();
+        return User.withUsername(username).password("{bcrypt}hash").roles("EMPLOYER").build();
+    };
+
+    @Test
+    void cachedUserIsLoadedOnceAndHasNoPassword() {
+        UserDetails first = cache.get("ann", loader);
+        UserDetails second = cache.get("ann", loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(first.getPassword()).isEmpty();
+        assertThat(first.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_EMPLOYER");
+    }
+
+    @Test
+    void entriesExpireAfterTheTtl() {
+        cache.get("ann", loader);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(301));
+
+        cache.get("ann", loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictForcesAReload() {
+        cache.get("ann", loader);
+        cache.evict("ann");
+        cache.evict(null);
+
+        cache.get("ann", loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void loaderFailuresPropagateAndAreNotCached() {
+        assertThatThrownBy(() -> cache.get("ghost", username -> {
+            throw new UsernameNotFoundException(username);
+        })).isInstanceOf(UsernameNotFoundException.class);
+
+        cache.get("ghost", loader);
+
+        assertThat(loads).hasValue(1);
+    }
+}
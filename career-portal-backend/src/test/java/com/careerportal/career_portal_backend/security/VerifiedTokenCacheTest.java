@@ -0,0 +1,73 @@
+package com.careerportal.career_portal_backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(100, nanos::get);
+
+    @Test
+    void repeatTokenIsAnsweredFromTheCache() {
+        Claims claims = claimsExpiringIn(60);
+        cache.put("token-a", claims);
+
+        assertThat(cache.get("token-a")).isSameAs(claims);
+        assertThat(cache.get("token-b")).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void entryExpiresWithItsToken() {
+        cache.put("short", claimsExpiringIn(30));
+        cache.put("long", claimsExpiringIn(300));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(31));
+
+        assertThat(cache.get("short")).isNull();
+        assertThat(cache.get("long")).isNotNull();
+    }
+
+    @Test
+    void readsDoNotExtendTheLifetime() {
+        cache.put("token", claimsExpiringIn(30));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        assertThat(cache.get("token")).isNotNull();
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(11));
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void tokensWithoutOrPastTheirExpirationAreNotCached() {
+        cache.put("no-exp", Jwts.claims().setSubject("user"));
+        cache.put("expired", claimsExpiringIn(-5));
+
+        assertThat(cache.get("no-exp")).isNull();
+        assertThat(cache.get("expired")).isNull();
+    }
+
+    @Test
+    void sizeZeroDisablesTheCache() {
+        VerifiedTokenCache disabled = new VerifiedTokenCache(0, nanos::get);
+        disabled.put("token", claimsExpiringIn(60));
+
+        assertThat(disabled.get("token")).isNull();
+    }
+
+    private static Claims claimsExpiringIn(long seconds) {
+        return Jwts.claims()
+                .setSubject("user")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(seconds)));
+    }
+}
@@ -0,0 +1,99 @@
+package com.careerportal.career_portal_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void splitsUnquotedFieldsAndKeepsEmptyOnes() throws IOException {
+        CsvRecordReader reader = reader("title,,location,\nDeveloper,x,Pune,");
+
+        assertThat(reader.readRecord()).containsExactly("title", "", "location", "");
+        assertThat(reader.readRecord()).containsExactly("Developer", "x", "Pune", "");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void quotedFieldsMayContainSeparatorsEscapedQuotesAndLineBreaks() throws IOException {
+        CsvRecordReader reader = reader("\"Java, Spring\",\"He said \"\"hi\"\"\",\"line one\nline two\"\nnext\n");
+
+        assertThat(reader.readRecord()).containsExactly("Java, Spring", "He said \"hi\"", "line one\nline two");
+        assertThat(reader.hasUnterminatedQuote()).isFalse();
+        assertThat(reader.readRecord()).containsExactly("next");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void quoteInsideAnUnquotedFieldIsLiteral() throws IOException {
+        assertThat(reader("5'11\",ok").readRecord()).containsExactly("5'11\"", "ok");
+    }
+
+    @Test
+    void emptyQuotedFieldIsEmpty() throws IOException {
+        assertThat(reader("\"\",a").readRecord()).containsExactly("", "a");
+    }
+
+    @Test
+    void acceptsCrLfAndBareCrLineEndings() throws IOException {
+        CsvRecordReader reader = reader("a,b\r\nc,d\re,f");
+
+        assertThat(reader.readRecord()).containsExactly("a", "b");
+        assertThat(reader.readRecord()).containsExactly("c", "d");
+        assertThat(reader.readRecord()).containsExactly("e", "f");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void blankLineIsASingleEmptyField() throws IOException {
+        CsvRecordReader reader = reader("a\n\nb\n");
+
+        assertThat(reader.readRecord()).containsExactly("a");
+        assertThat(reader.readRecord()).containsExactly("");
+        assertThat(reader.readRecord()).containsExactly("b");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void recordLineIsWhereTheRecordStartsEvenAfterAMultiLineField() throws IOException {
+        CsvRecordReader reader = reader("header\n\"multi\nline\",x\nlast\n");
+
+        reader.readRecord();
+        assertThat(reader.getRecordLine()).isEqualTo(1);
+        reader.readRecord();
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+        assertThat(reader.readRecord()).containsExactly("last");
+        assertThat(reader.getRecordLine()).isEqualTo(4);
+    }
+
+    @Test
+    void unterminatedQuoteReturnsTheRestOfTheInputAndIsReported() throws IOException {
+        CsvRecordReader reader = reader("ok,1\n\"broken,2\nnext,3\n");
+
+        assertThat(reader.readRecord()).containsExactly("ok", "1");
+        assertThat(reader.hasUnterminatedQuote()).isFalse();
+
+        assertThat(reader.readRecord()).containsExactly("broken,2\nnext,3\n");
+        assertThat(reader.hasUnterminatedQuote()).isTrue();
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void unterminatedFlagIsResetForTheNextRecord() throws IOException {
+        CsvRecordReader reader = reader("\"open");
+
+        reader.readRecord();
+        assertThat(reader.hasUnterminatedQuote()).isTrue();
+        assertThat(reader.readRecord()).isNull();
+        assertThat(reader.hasUnterminatedQuote()).isFalse();
+    }
+
+    private static CsvRecordReader reader(String csv) {
+        return new CsvRecordReader(new StringReader(csv));
+    }
+}
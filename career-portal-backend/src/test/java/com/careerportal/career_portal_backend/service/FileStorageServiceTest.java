@@ -0,0 +1,111 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.careerportal.career_portal_backend.execption.BadRequestException;
+import com.careerportal.career_portal_backend.repository.StoredFileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class FileStorageServiceTest {
+
+    private static final byte[] PDF = {'%', 'P', 'D', 'F', '-', '1', '.', '7', '\n', 'h', 'i'};
+
+    @TempDir
+    Path uploadDir;
+
+    private final StoredFileRepository storedFileRepository = mock(StoredFileRepository.class);
+    private FileStorageService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FileStorageService(uploadDir.toString(), storedFileRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "maxFileSize", DataSize.ofKilobytes(1));
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void identicalUploadsShareOneContentAddressedBlob() {
+        String first = service.storeFile(pdf("cv.pdf"), "resumes");
+        String second = service.storeFile(pdf("other-name.PDF"), "resumes");
+
+        assertThat(first).isEqualTo(second).startsWith("resumes/").endsWith(".pdf");
+        assertThat(Files.exists(service.shardedPath(first))).isTrue();
+        // Both uploads register (the second only refreshes created_at)
+        verify(storedFileRepository, times(2)).registerIfAbsent(eq(first), anyString(), eq((long) PDF.length));
+    }
+
+    @Test
+    void rollbackOfTheCallerReRegistersABlobItWrote() {
+        TransactionSynchronizationManager.initSynchronization();
+        String path = service.storeFile(pdf("cv.pdf"), "resumes");
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(storedFileRepository).registerOrphan(eq(path), anyString(), eq((long) PDF.length));
+    }
+
+    @Test
+    void rollbackDoesNotReRegisterABlobThatWasAlreadyStored() {
+        service.storeFile(pdf("cv.pdf"), "resumes");
+        TransactionSynchronizationManager.initSynchronization();
+        service.storeFile(pdf("cv.pdf"), "resumes"); // already on disk
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(storedFileRepository, never()).registerOrphan(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    void uploadWithAForgedExtensionIsRejectedBeforeAnythingIsRegistered() {
+        MockMultipartFile notAPdf = new MockMultipartFile("file", "cv.pdf", "application/pdf", "plain text".getBytes());
+
+        assertThatThrownBy(() -> service.storeFile(notAPdf, "resumes")).isInstanceOf(BadRequestException.class);
+        verify(storedFileRepository, never()).registerIfAbsent(any(), any(), any());
+    }
+
+    @Test
+    void oversizedUploadIsRejected() {
+        byte[] large = new byte[2048];
+        System.arraycopy(PDF, 0, large, 0, PDF.length);
+
+        assertThatThrownBy(() -> service.storeFile(new MockMultipartFile("file", "cv.pdf", "application/pdf", large), "resumes"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static MockMultipartFile pdf(String name) {
+        return new MockMultipartFile("file", name, "application/pdf", PDF);
+    }
+
+    private static void completeTransaction(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(status);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.careerportal.career_portal_backend.config.PaginationProperties;
+import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.execption.BadRequestException;
+import com.careerportal.career_portal_backend.payload.JobSeekerDto;
+import com.careerportal.career_portal_backend.repository.JobSeekerDirectoryRepository;
+import com.careerportal.career_portal_backend.repository.JobSeekerProfileRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class JobSeekerServiceTest {
+
+    private final JobSeekerProfileRepository profileRepository = mock(JobSeekerProfileRepository.class);
+    private final JobSeekerDirectoryRepository directoryRepository = mock(JobSeekerDirectoryRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private JobSeekerService service(int chunkSize) {
+        PaginationProperties paginationProperties = new PaginationProperties();
+        ReflectionTestUtils.setField(paginationProperties, "defaultPageSize", 20);
+        ReflectionTestUtils.setField(paginationProperties, "maxPageSize", 100);
+        return new JobSeekerService(profileRepository, directoryRepository, paginationProperties,
+                objectMapper, chunkSize);
+    }
+
+    @Test
+    void streamSeeksPastTheLastIdOfEachChunk() throws Exception {
+        when(directoryRepository.findAfter(0L, 2)).thenReturn(jobSeekers(1, 2));
+        when(directoryRepository.findAfter(2L, 2)).thenReturn(jobSeekers(3, 4));
+        when(directoryRepository.findAfter(4L, 2)).thenReturn(jobSeekers(5, 5));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = service(2).streamAllJobSeekers(out);
+
+        assertThat(written).isEqualTo(5);
+        JsonNode array = objectMapper.readTree(out.toByteArray());
+        assertThat(array).hasSize(5);
+        assertThat(array.get(4).get("id").asLong()).isEqualTo(5);
+        // The short third chunk ends the stream without another query
+        verify(directoryRepository).findAfter(0L, 2);
+        verify(directoryRepository).findAfter(2L, 2);
+        verify(directoryRepository).findAfter(4L, 2);
+        verifyNoMoreInteractions(directoryRepository);
+    }
+
+    @Test
+    void streamOfAnEmptyDirectoryIsAnEmptyArray() throws Exception {
+        when(directoryRepository.findAfter(0L, 3)).thenReturn(List.of());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(service(3).streamAllJobSeekers(out)).isZero();
+        assertThat(out.toString()).isEqualTo("[]");
+    }
+
+    @Test
+    void unknownStatusFilterIsABadRequest() {
+        assertThatThrownBy(() -> service(2).getJobSeekers(null, null, null, "RETIRED", null, null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void textFiltersArePassedAsEscapedLowerCasePatterns() {
+        when(profileRepository.findDirectoryPage(any(), any(), any(), any(), any()))
+                .thenReturn(Page.empty());
+
+        service(2).getJobSeekers(" Ann_ ", "", null, "fresher", null, null);
+
+        verify(profileRepository).findDirectoryPage(eq("%ann!_%"), isNull(), isNull(),
+                eq(JobSeekerProfile.ExperienceStatus.FRESHER), any());
+    }
+
+    private static List<JobSeekerDto> jobSeekers(long fromId, long toId) {
+        List<JobSeekerDto> jobSeekers = new ArrayList<>();
+        for (long id = fromId; id <= toId; id++) {
+            JobSeekerDto dto = new JobSeekerDto();
+            dto.setId(id);
+            dto.setName("Seeker " + id);
+            jobSeekers.add(dto);
+        }
+        return jobSeekers;
+    }
+}
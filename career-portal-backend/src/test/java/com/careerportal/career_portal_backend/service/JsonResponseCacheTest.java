@@ -0,0 +1,97 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonResponseCacheTest {
+
+    private final JsonResponseCache cache = cache(64);
+
+    @Test
+    void keyKeepsNullDistinctFromEmpty() {
+        assertThat(JsonResponseCache.key(JsonResponseCache.JOBS, "search", null, 2))
+                .isEqualTo("jobs|search|null|2")
+                .isNotEqualTo(JsonResponseCache.key(JsonResponseCache.JOBS, "search", "", 2));
+    }
+
+    @Test
+    void loadsOnceAndServesTheSameBytes() {
+        AtomicInteger loads = new AtomicInteger();
+        JsonResponseCache.CachedJson first = cache.get("jobs|a", () -> {
+            loads.incrementAndGet();
+            return Map.of("id", 1);
+        });
+        JsonResponseCache.CachedJson second = cache.get("jobs|a", () -> {
+            loads.incrementAndGet();
+            return Map.of("id", 2);
+        });
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    void etagIsAStrongDigestOfTheBody() {
+        String etag = cache.get("jobs|a", () -> List.of("x")).getEtag();
+
+        assertThat(etag).matches("\"[0-9a-f]{32}\"");
+        assertThat(cache.get("employers|a", () -> List.of("x")).getEtag()).isEqualTo(etag);
+        assertThat(cache.get("jobs|b", () -> List.of("y")).getEtag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    void smallBodiesAreNotCompressed() {
+        JsonResponseCache.CachedJson json = cache.get("jobs|small", () -> List.of("x"));
+
+        assertThat(json.getGzipBody()).isNull();
+    }
+
+    @Test
+    void largeBodiesGetAGzipCopyWithItsOwnEtag() throws IOException {
+        JsonResponseCache.CachedJson json = cache.get("jobs|large", () -> List.of("java developer ".repeat(50)));
+
+        assertThat(json.getGzipBody()).isNotNull().hasSizeLessThan(json.getBody().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(json.getGzipBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo(json.getBody());
+        }
+        assertThat(json.getGzipEtag()).isEqualTo(json.getEtag().replaceAll("\"$", "-gzip\""));
+    }
+
+    @Test
+    void incompressibleBodiesAreServedAsTheyAre() {
+        // Above the threshold, but the gzip header alone outweighs any saving
+        JsonResponseCache.CachedJson json = cache(16).get("jobs|short", () -> List.of("q8z1kd0xv3mw7"));
+
+        assertThat(json.getBody().length).isGreaterThanOrEqualTo(16);
+        assertThat(json.getGzipBody()).isNull();
+    }
+
+    @Test
+    void invalidateDropsOnlyTheNamespace() {
+        cache.get("jobs|a", () -> 1);
+        cache.get("jobseekers|a", () -> 2);
+        cache.get("employers|a", () -> 3);
+
+        cache.invalidate(JsonResponseCache.JOBS);
+
+        assertThat(cache.getCache().asMap()).containsOnlyKeys("jobseekers|a", "employers|a");
+    }
+
+    private static JsonResponseCache cache(int gzipMinBytes) {
+        JsonResponseCache cache = new JsonResponseCache(new ObjectMapper(), 1 << 20, 600);
+        ReflectionTestUtils.setField(cache, "gzipMinBytes", gzipMinBytes);
+        return cache;
+    }
+}
@@ -0,0 +1,117 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.careerportal.career_portal_backend.repository.StoredFileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UploadLayoutMigratorTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStorageService fileStorageService;
+    private UploadLayoutMigrator migrator;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService = new FileStorageService(uploadDir.toString(), mock(StoredFileRepository.class),
+                new SimpleMeterRegistry());
+        migrator = new UploadLayoutMigrator(fileStorageService);
+        ReflectionTestUtils.setField(migrator, "batchSize", 2);
+        ReflectionTestUtils.setField(migrator, "pauseMillis", 0L);
+    }
+
+    @Test
+    void movesFlatFilesIntoTheShardedLayoutInBatches() throws IOException {
+        for (String name : new String[]{"a1b2c3.pdf", "d4e5f6.pdf", "0789ab.pdf"}) {
+            flat("resumes", name, name);
+        }
+        flat("photos", "fedcba.jpg", "photo");
+
+        assertThat(migrator.migrateBatch("resumes")).isEqualTo(2);
+        assertThat(migrator.migrateAll()).isEqualTo(2);
+
+        for (String path : new String[]{"resumes/a1b2c3.pdf", "resumes/d4e5f6.pdf", "resumes/0789ab.pdf", "photos/fedcba.jpg"}) {
+            Path sharded = fileStorageService.shardedPath(path);
+            assertThat(sharded).exists();
+            assertThat(fileStorageService.locate(path)).isEqualTo(sharded);
+            assertThat(uploadDir.resolve(path)).doesNotExist();
+        }
+        assertThat(Files.readString(fileStorageService.shardedPath("resumes/a1b2c3.pdf"))).isEqualTo("a1b2c3.pdf");
+    }
+
+    @Test
+    void flatCopyOfAnAlreadyShardedFileIsDropped() throws IOException {
+        Path sharded = fileStorageService.shardedPath("resumes/a1b2c3.pdf");
+        Files.createDirectories(sharded.getParent());
+        Files.writeString(sharded, "same bytes");
+        flat("resumes", "a1b2c3.pdf", "same bytes");
+
+        assertThat(migrator.migrateAll()).isEqualTo(1);
+        assertThat(uploadDir.resolve("resumes/a1b2c3.pdf")).doesNotExist();
+        assertThat(Files.readString(sharded)).isEqualTo("same bytes");
+    }
+
+    @Test
+    void hiddenFilesAndShardDirectoriesAreLeftAlone() throws IOException {
+        flat("resumes", ".upload-tmp", "partial");
+        Path sharded = fileStorageService.shardedPath("resumes/a1b2c3.pdf");
+        Files.createDirectories(sharded.getParent());
+        Files.writeString(sharded, "done");
+
+        assertThat(migrator.migrateAll()).isZero();
+        assertThat(uploadDir.resolve("resumes/.upload-tmp")).exists();
+        assertThat(sharded).exists();
+    }
+
+    @Test
+    void isIdempotentAndToleratesMissingDirectories() throws IOException {
+        assertThat(migrator.migrateAll()).isZero();
+
+        flat("resumes", "a1b2c3.pdf", "x");
+        assertThat(migrator.migrateAll()).isEqualTo(1);
+        assertThat(migrator.migrateAll()).isZero();
+    }
+
+    private void flat(String subDirectory, String name, String content) throws IOException {
+        Path directory = Files.createDirectories(uploadDir.resolve(subDirectory));
+        Files.writeString(directory.resolve(name), content);
+    }
+
+    @Test
+    void filesThatCannotBeMovedAreSkippedAndTheRestIsStillMigrated() throws IOException {
+        // Shard directories of "bad" files cannot be created: their parent is a regular file
+        Path blocker = Files.writeString(uploadDir.resolve("blocker"), "not a directory");
+        FileStorageService storage = mock(FileStorageService.class);
+        when(storage.getStorageLocation()).thenReturn(uploadDir);
+        when(storage.shardedPath(anyString())).thenAnswer(invocation -> {
+            String path = invocation.getArgument(0);
+            return path.contains("bad") ? blocker.resolve("shard").resolve(path) : fileStorageService.shardedPath(path);
+        });
+        UploadLayoutMigrator migrator = new UploadLayoutMigrator(storage);
+        ReflectionTestUtils.setField(migrator, "batchSize", 2);
+        ReflectionTestUtils.setField(migrator, "pauseMillis", 0L);
+        for (String name : new String[]{"bad1.pdf", "bad2.pdf", "bad3.pdf", "bad4.pdf", "a1b2c3.pdf", "d4e5f6.pdf"}) {
+            flat("resumes", name, name);
+        }
+
+        assertThat(migrator.migrateAll()).isEqualTo(2);
+
+        assertThat(fileStorageService.shardedPath("resumes/a1b2c3.pdf")).exists();
+        assertThat(fileStorageService.shardedPath("resumes/d4e5f6.pdf")).exists();
+        assertThat(uploadDir.resolve("resumes/bad1.pdf")).exists();
+        assertThat(uploadDir.resolve("resumes/bad4.pdf")).exists();
+    }
+}
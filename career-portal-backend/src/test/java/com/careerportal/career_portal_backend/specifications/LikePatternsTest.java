@@ -0,0 +1,24 @@
+package com.careerportal.career_portal_backend.specifications;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikePatternsTest {
+
+    @Test
+    void wildcardsAndTheEscapeCharacterAreEscaped() {
+        assertThat(LikePatterns.escape("100%_off!")).isEqualTo("100!%!_off!!");
+    }
+
+    @Test
+    void plainTextIsLeftAlone() {
+        assertThat(LikePatterns.escape("Software & IT")).isEqualTo("Software & IT");
+    }
+
+    @Test
+    void containsAndStartsWithAddUnescapedWildcards() {
+        assertThat(LikePatterns.contains("a_b")).isEqualTo("%a!_b%");
+        assertThat(LikePatterns.startsWith("Fin%")).isEqualTo("Fin!%%");
+    }
+}